@@ -0,0 +1,31 @@
+package benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the game.
+ * <p>
+ * The benchmarks are a separate Maven project, so JMH stays out of the game's module. Install the game, then
+ * build and run the self-contained {@code benchmarks.jar} from the {@code Platformer/benchmarks} directory:
+ * <pre>
+ * mvn -f ../pom.xml install -DskipTests
+ * mvn package
+ * java --enable-preview -jar target/benchmarks.jar [regex]
+ * </pre>
+ * JMH forks a JVM per benchmark from the class path of this one, which is why the benchmarks run from the jar
+ * rather than through Maven. The argument, if any, is a regular expression selecting the benchmarks to run,
+ * e.g. {@code MoverBenchmark} or {@code Player.*tick}. The benchmarks using {@link JavaFxRuntime} need a display.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".")
+                .jvmArgsAppend("--enable-preview") // the game is compiled with preview features enabled
+                .build();
+        new Runner(options).run();
+    }
+}
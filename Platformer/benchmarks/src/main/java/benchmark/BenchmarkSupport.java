@@ -0,0 +1,81 @@
+package benchmark;
+
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.game.LevelLayout;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures shared by the benchmarks.
+ * <p>
+ * Levels of different sizes are made by repeating the columns of a level, so a wider level has the
+ * same kind of content as the original, with proportionally more tiles, supplies and movers.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Starts the JavaFX runtime, which loading images needs.
+     */
+    static void startToolkit() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException e) {
+            // already started by an earlier benchmark of this JVM
+        }
+    }
+
+    /**
+     * Repeats a level side by side.
+     *
+     * @param levelData The level to repeat.
+     * @param copies    The number of copies placed next to each other (1 returns the level itself).
+     * @return The widened level.
+     */
+    static LevelData widen(LevelData levelData, int copies) {
+        if (copies == 1) {
+            return levelData;
+        }
+        String[] rows = levelData.getRows();
+
+        // The ranges of the movers of each row, in grid order
+        List<List<int[]>> rowRanges = new ArrayList<>();
+        int next = 0;
+        for (String row : rows) {
+            List<int[]> ranges = new ArrayList<>();
+            for (int j = 0; j < row.length(); j++) {
+                String entityType = levelData.getEntityType(row.charAt(j));
+                if (entityType != null && LevelLayout.isMover(entityType)) {
+                    ranges.add(levelData.getMovableObjectRanges().get(next++));
+                }
+            }
+            rowRanges.add(ranges);
+        }
+
+        String[] widened = new String[rows.length];
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            widened[i] = rows[i].repeat(copies);
+            for (int copy = 0; copy < copies; copy++) {
+                ranges.addAll(rowRanges.get(i));
+            }
+        }
+        return new LevelData(widened, levelData.getSupplies() * copies, ranges, getPalette(levelData));
+    }
+
+    /**
+     * Returns the tile palette of a level, indexed by grid character.
+     */
+    private static String[] getPalette(LevelData levelData) {
+        String[] palette = new String[128];
+        for (char c = 0; c < palette.length; c++) {
+            palette[c] = levelData.getEntityType(c);
+        }
+        return palette;
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import com.platformer.escape_beyond.model.game.EntityCreator;
+import com.platformer.escape_beyond.model.game.LevelLayout;
+import com.platformer.escape_beyond.utils.SpriteVariantCache;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading the image of an entity at the size it is drawn at.
+ * <p>
+ * {@link #loadImageView(JavaFxRuntime)} is the call made for every entity of a level that is not in
+ * the sprite atlas; after the first call the image comes from the texture cache.
+ * {@link #loadVariant(JavaFxRuntime)} is what the texture cache does on a miss: it reads the scaled
+ * variant of the image from the disk cache, or decodes and scales the original the first time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageBenchmark {
+    @Param({EntityCreator.GLACIER_PLATFORM_BLOCK_, EntityCreator.GLACIER_LARGE_ICE_BLOCK_, EntityCreator.FIRE_DRAGON_, EntityCreator.IGLOO_})
+    public String entityType; // The entity whose image is loaded
+
+    private int width; // Width the entity is drawn at
+    private int height; // Height the entity is drawn at
+
+    @Setup
+    public void setUp() {
+        int[] size = LevelLayout.getSize(entityType);
+        width = size[0];
+        height = size[1];
+    }
+
+    @Benchmark
+    public Image loadImageView(JavaFxRuntime javaFx) {
+        return EntityCreator.loadImageView(entityType, 1, width, height);
+    }
+
+    @Benchmark
+    public Image loadVariant(JavaFxRuntime javaFx) {
+        return SpriteVariantCache.load(EntityCreator.getImageUrl(entityType, 1), width, height);
+    }
+}
@@ -0,0 +1,20 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The JavaFX runtime, started only for the benchmarks that load images or create nodes.
+ * <p>
+ * A benchmark takes this state as a parameter to have the runtime started before it is measured.
+ * Nothing is shown, but a display is required.
+ */
+@State(Scope.Benchmark)
+public class JavaFxRuntime {
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.startToolkit();
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark;
+
+import com.platformer.escape_beyond.manager.DataManager;
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.entity.Map;
+import com.platformer.escape_beyond.model.game.EntitySelector;
+import com.platformer.escape_beyond.model.game.LevelLayout;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import com.platformer.escape_beyond.utils.IntArrayIterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks instantiating a level.
+ * <p>
+ * {@link #buildBodies()} only builds the bodies and movers, as the headless simulation does.
+ * {@link #insertEntities(JavaFxRuntime)} does what the loading screen does: it creates every entity with
+ * {@link EntitySelector}, indexes the bodies and bakes the static tiles. It needs the {@link JavaFxRuntime}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+    @Param({"1", "2"})
+    public int level; // Index of the level built
+
+    @Param({"1", "4", "16"})
+    public int copies; // Number of times the level is repeated side by side
+
+    private LevelData levelData; // The level built
+    private final PhysicsWorld world = new PhysicsWorld(LevelLayout.BLOCK_SIZE); // Bodies of the headless level
+    private final MoverSystem movers = new MoverSystem(); // Movers of the headless level
+
+    @Setup
+    public void setUp() {
+        levelData = BenchmarkSupport.widen(LevelData.getLevel(level), copies);
+    }
+
+    @Benchmark
+    public PhysicsWorld buildBodies() {
+        LevelLayout.build(levelData, world, movers);
+        return world;
+    }
+
+    @Benchmark
+    public PhysicsWorld insertEntities(JavaFxRuntime javaFx) {
+        DataManager dataManager = DataManager.getInstance();
+        dataManager.getGameState().map = new Map(level); // selects the sprite atlas
+        dataManager.clearGameState();
+        dataManager.getWorldView().setRenderMode(dataManager.getGameState().renderMode);
+        dataManager.setRangeIterator(new IntArrayIterator(new ArrayList<>(levelData.getMovableObjectRanges())));
+
+        String[] rows = levelData.getRows();
+        for (int i = 0; i < rows.length; i++) {
+            String line = rows[i];
+            for (int j = 0; j < line.length(); j++) {
+                String entityType = levelData.getEntityType(line.charAt(j));
+                if (entityType != null) {
+                    EntitySelector.InsertEntity(entityType, j, i);
+                }
+            }
+        }
+        dataManager.getPhysicsWorld().build();
+        dataManager.getWorldView().bakeTiles();
+        return dataManager.getPhysicsWorld();
+    }
+}
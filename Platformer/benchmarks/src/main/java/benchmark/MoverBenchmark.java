@@ -0,0 +1,47 @@
+package benchmark;
+
+import com.platformer.escape_beyond.model.game.LevelLayout;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks stepping the movers of a level, i.e. the enemies and flying carpets, for one tick.
+ * <p>
+ * The movers are enemies laid out in rows of a level of the matching width, each patrolling two tiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoverBenchmark {
+    private static final int ROWS = 12; // Rows of a level
+    private static final int[] RANGE = {0, 2 * LevelLayout.BLOCK_SIZE}; // Patrol range of every mover
+
+    @Param({"10", "100", "1000", "10000"})
+    public int movers; // Number of movers
+
+    private final PhysicsWorld world = new PhysicsWorld(LevelLayout.BLOCK_SIZE); // Bodies moved by the movers
+    private final MoverSystem moverSystem = new MoverSystem(); // The movers
+
+    @Setup
+    public void setUp() {
+        for (int k = 0; k < movers; k++) {
+            int x = (k / ROWS) * 3 * LevelLayout.BLOCK_SIZE;
+            int y = (k % ROWS) * LevelLayout.BLOCK_SIZE;
+            int bodyId = world.addDynamicBody(x, y, LevelLayout.BLOCK_SIZE, LevelLayout.BLOCK_SIZE, PhysicsWorld.HAZARD);
+            moverSystem.add(bodyId, RANGE, 1, true);
+        }
+        world.build();
+    }
+
+    @Benchmark
+    public void step() {
+        world.savePreviousPositions();
+        moverSystem.step(world);
+    }
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import com.platformer.escape_beyond.input.Action;
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.game.Simulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one simulation tick of the player, as run by the game loop: input, movement and
+ * collisions, scrolling, supply pickups, then the movers and the events of the tick.
+ * <p>
+ * The player follows a fixed random script that mostly runs right and jumps, so the ticks cover
+ * walking, falling, landing and pickups. When a run ends, a new one starts within the measured tick;
+ * rebuilding the level is a small share of the hundreds of ticks of a run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+    private static final int SCRIPT_LENGTH = 4096; // Ticks of input before the script repeats
+
+    @Param({"1", "2"})
+    public int level; // Index of the level played
+
+    @Param({"1", "4", "16"})
+    public int copies; // Number of times the level is repeated side by side
+
+    private Simulation simulation; // The level being played
+    private final int[] script = new int[SCRIPT_LENGTH]; // The actions held during each tick
+    private int tick; // Position in the script
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        for (int i = 0; i < script.length; i++) {
+            script[i] = random.nextInt(4) == 0 ? random.nextInt(8) : Action.RIGHT.mask() | (random.nextInt(5) == 0 ? Action.JUMP.mask() : 0);
+        }
+        simulation = new Simulation(BenchmarkSupport.widen(LevelData.getLevel(level), copies));
+        simulation.reset();
+    }
+
+    @Benchmark
+    public boolean tick() {
+        boolean running = simulation.step(script[tick++ & (SCRIPT_LENGTH - 1)]);
+        if (!running) {
+            simulation.reset();
+        }
+        return running;
+    }
+}
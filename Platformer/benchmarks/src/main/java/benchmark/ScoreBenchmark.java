@@ -0,0 +1,62 @@
+package benchmark;
+
+import com.platformer.escape_beyond.manager.ScoreManager;
+import com.platformer.escape_beyond.model.game.Score;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving and loading the score list with {@link ScoreManager}.
+ * <p>
+ * The score manager writes the game's own score file, so the file is saved before the benchmark
+ * and put back afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+    private static final Path SCORES_FILE = Path.of("src/main/resources/file/scores.dat"); // The file written by ScoreManager
+
+    @Param({"10", "100", "1000"})
+    public int scores; // Number of scores in the list
+
+    private final List<Score> scoreList = new ArrayList<>(); // The scores saved
+    private byte[] savedFile; // The score file before the benchmark, or null if there was none
+
+    @Setup
+    public void setUp() throws IOException {
+        savedFile = Files.exists(SCORES_FILE) ? Files.readAllBytes(SCORES_FILE) : null;
+        for (int k = 0; k < scores; k++) {
+            scoreList.add(new Score(k * 10, k % 2 + 1, k % 2 == 0 ? "glacier" : "desert", "2024-12-0" + (k % 9 + 1)));
+        }
+        ScoreManager.serializeScores(scoreList);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (savedFile != null) {
+            Files.write(SCORES_FILE, savedFile);
+        } else {
+            Files.deleteIfExists(SCORES_FILE);
+        }
+    }
+
+    @Benchmark
+    public void serializeScores() {
+        ScoreManager.serializeScores(scoreList);
+    }
+
+    @Benchmark
+    public List<Score> deserializeScores() {
+        return ScoreManager.deserializeScores();
+    }
+}
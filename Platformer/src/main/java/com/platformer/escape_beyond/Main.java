@@ -1,7 +1,10 @@
 package com.platformer.escape_beyond;
 
+import com.platformer.escape_beyond.manager.BackgroundManager;
 import com.platformer.escape_beyond.manager.DataManager;
 import com.platformer.escape_beyond.manager.GameManager;
+import com.platformer.escape_beyond.manager.LogManager;
+import com.platformer.escape_beyond.manager.MetricsManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import com.platformer.escape_beyond.manager.TimeManager;
 import javafx.application.Application;
@@ -38,6 +41,7 @@ public class Main extends Application {
         SceneManager.getInstance();      // Prepare scene management
         DataManager.getInstance().init(); // Initialize game data and state
         TimeManager.getInstance().init(); // Initialize timers for game updates
+        MetricsManager.getInstance().init(); // Serve the metrics if an endpoint port is set
 
     }
 
@@ -55,6 +59,21 @@ public class Main extends Application {
     public void start(Stage primaryStage) throws Exception {
         // Initialize the main game window via SceneManager
         SceneManager.getInstance().setupPrimaryStage(primaryStage);
+        // Start decoding the backgrounds of the default map while the menus are shown
+        BackgroundManager.getInstance().preload(DataManager.getInstance().getGameState().map.index);
+    }
+
+    /**
+     * Writes the metrics of the session to their file, stops the metrics endpoint and flushes the log when the application exits.
+     *
+     * @throws Exception If there is an error during shutdown.
+     */
+    @Override
+    public void stop() throws Exception {
+        MetricsManager.getInstance().writeFile();
+        MetricsManager.getInstance().stop();
+        LogManager.getInstance().flush(1000); // write the events still in the buffer
+        super.stop();
     }
 
     /**
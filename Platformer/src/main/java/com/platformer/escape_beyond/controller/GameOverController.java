@@ -1,17 +1,16 @@
 package com.platformer.escape_beyond.controller;
 
+import com.platformer.escape_beyond.manager.BackgroundManager;
 import com.platformer.escape_beyond.manager.DataManager;
-import com.platformer.escape_beyond.Main;
 import com.platformer.escape_beyond.manager.GameManager;
+import com.platformer.escape_beyond.manager.LogManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import com.platformer.escape_beyond.model.entity.Map;
 import javafx.fxml.FXML;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * The controller class for the Game Over screen of the game.
@@ -33,9 +32,8 @@ public class GameOverController {
      */
     @FXML
     public void initialize() {
-        backgroundImage.setImage(new Image(Objects.requireNonNull(
-                Main.class.getResourceAsStream(Map.getRandomMapBackground(DataManager.getInstance().getGameState().map.index))
-        )));
+        backgroundImage.setImage(BackgroundManager.getInstance().getBackground(
+                Map.getRandomMapBackground(DataManager.getInstance().getGameState().map.index)));
 
         backgroundImage.setFitWidth(1280); // Set the width to 1280
         backgroundImage.setFitHeight(720); // Set the height to 720
@@ -52,7 +50,7 @@ public class GameOverController {
      */
     @FXML
     public void MouseClicked_Restart(MouseEvent event) throws IOException {
-        System.out.println("Restart game");
+        LogManager.getInstance().info("game_restarted");
         GameManager.getInstance().startGame();
     }
 
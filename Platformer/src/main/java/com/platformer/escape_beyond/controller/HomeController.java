@@ -78,7 +78,6 @@ public class HomeController {
      */
     @FXML
     public void switchOnClicked_StartGame(ActionEvent actionEvent) throws IOException {
-        System.out.println("Start game");
         GameManager.getInstance().startGame();
     }
 }
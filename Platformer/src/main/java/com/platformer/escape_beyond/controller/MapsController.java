@@ -1,7 +1,9 @@
 package com.platformer.escape_beyond.controller;
 
+import com.platformer.escape_beyond.manager.BackgroundManager;
 import com.platformer.escape_beyond.manager.DataManager;
 import com.platformer.escape_beyond.manager.GameManager;
+import com.platformer.escape_beyond.manager.LogManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -96,8 +98,9 @@ public class MapsController {
      */
     @FXML
     public void Switch_GameLevel1(ActionEvent actionEvent) {
-        System.out.println("Switch to Game Level 1");
+        LogManager.getInstance().info("map_selected", "map", 1);
         dataManager.getGameState().setMap(1);
+        BackgroundManager.getInstance().preload(1); // Decode the map's backgrounds before the game starts
     }
 
     /**
@@ -107,8 +110,9 @@ public class MapsController {
      */
     @FXML
     public void Switch_GameLevel2(ActionEvent actionEvent) {
-        System.out.println("Switch to Game Level 2");
+        LogManager.getInstance().info("map_selected", "map", 2);
         dataManager.getGameState().setMap(2);
+        BackgroundManager.getInstance().preload(2); // Decode the map's backgrounds before the game starts
     }
 
     /**
@@ -163,7 +167,6 @@ public class MapsController {
      */
     @FXML
     public void start_level1Game(MouseEvent event) throws IOException {
-        System.out.println("Welcome to Escape beyond! Start level1 game!");
         gameManager.startGame();
     }
 
@@ -182,7 +185,6 @@ public class MapsController {
      */
     @FXML
     public void start_level2Game(MouseEvent event) throws IOException {
-        System.out.println("Welcome to Escape beyond! Start level1 game!");
         gameManager.startGame();
     }
 }
@@ -1,6 +1,7 @@
 package com.platformer.escape_beyond.controller;
 
 import com.platformer.escape_beyond.manager.DataManager;
+import com.platformer.escape_beyond.manager.LogManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -107,7 +108,7 @@ public class OptionController {
      */
     @FXML
     private void Switch_player(int index) {
-        System.out.println("Switch to player " + index);
+        LogManager.getInstance().info("character_selected", "character", index);
         DataManager.getInstance().getGameState().setCharacter(index);
     }
 
@@ -1,25 +1,21 @@
 package com.platformer.escape_beyond.controller;
 
+import com.platformer.escape_beyond.input.Action;
+import com.platformer.escape_beyond.input.InputBindings;
+import com.platformer.escape_beyond.input.InputState;
 import com.platformer.escape_beyond.manager.DataManager;
-import com.platformer.escape_beyond.manager.GameManager;
-import com.platformer.escape_beyond.manager.SceneManager;
+import com.platformer.escape_beyond.manager.EventManager;
+import com.platformer.escape_beyond.manager.ProfilerManager;
 import com.platformer.escape_beyond.model.game.PlayerModel;
-import com.platformer.escape_beyond.model.entity.block.feature.FeatureBlock;
-import com.platformer.escape_beyond.model.entity.node.movable.MovableNode;
-import com.platformer.escape_beyond.model.entity.node.movable.enemy.EnemyNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.DestinationNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.FeatureNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.SupplyNode;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import com.platformer.escape_beyond.model.physics.PlayerPhysics;
+import com.platformer.escape_beyond.view.Camera;
 import com.platformer.escape_beyond.view.PlayerView;
-import javafx.scene.Node;
+import com.platformer.escape_beyond.view.WorldView;
 import javafx.scene.Scene;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
 
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.List;
-
 /**
  * Controller class responsible for managing player movement, physics, collisions,
  * and interactions in the game.
@@ -27,26 +23,27 @@ import java.util.List;
  * The {@code PlayerController} bridges the {@link PlayerModel} (data layer) and
  * {@link PlayerView} (visual layer) to ensure the player's behavior aligns
  * with the game environment.
+ * <p>
+ * Movement and collisions are computed by {@link PlayerPhysics} against the bodies of the {@link PhysicsWorld};
+ * the scene graph is only updated from the world in {@link #render(double)}, and scrolling is done by the {@link Camera}.
  */
 public class PlayerController {
     private final PlayerModel playerModel; // The player's data model.
     private final PlayerView playerView;  // The player's visual representation.
 
     private static final DataManager dataManager = DataManager.getInstance();
-    private final List<Node> platforms = dataManager.getPlatforms(); // List of platform nodes in the game.
-    private final List<FeatureNode> featureNodes = dataManager.getFeatureNodes(); // List of special feature blocks.
-    private final List<SupplyNode> supplyNodes = dataManager.getSupplyNodes(); // List of collectible supply nodes.
-    private final DestinationNode destinationNode = dataManager.getDestinationNode(); // The goal node of the level.
-    private final List<MovableNode> movableNodes = dataManager.getMovableNodes(); // List of movable objects in the game.
-    private final List<EnemyNode> enemyNodes = dataManager.getEnemyNodes(); // List of enemies in the game.
-    private final HashMap<KeyCode, Boolean> keys = new HashMap<>(); // Tracks key press states.
-
-    private final int levelWidth; // The width of the current level.
-    private boolean isMovingRight = true; // For determining direction and mirror
-    private static final int MOVE_STEP = 5; // Movement step for horizontal motion
-    private static final int SCREEN_HEIGHT_THRESHOLD = 780; // Player Y position threshold to trigger game over
-    private static final int CENTER_RANGE_MIN = 635; // Minimum X coordinate for central range
-    private static final int CENTER_RANGE_MAX = 645; // Maximum X coordinate for central range
+    private final PhysicsWorld world = dataManager.getPhysicsWorld(); // Collision bodies of the level.
+    private final WorldView worldView = dataManager.getWorldView(); // Nodes drawing the bodies of the level.
+    private final PlayerPhysics physics; // Moves the player through the bodies of the level.
+    private final Camera camera; // Scrolls the game root to follow the player.
+    private double previousX; // Player X before the last tick, used to interpolate rendering.
+    private double previousY; // Player Y before the last tick.
+    private final MoverSystem movers = dataManager.getMoverSystem(); // Enemies and flying carpets patrolling the level.
+    private final InputState input = new InputState(InputBindings.defaults()); // Key state, snapshotted once per tick.
+    private final ProfilerManager profiler = ProfilerManager.getInstance(); // Times the phases of the update.
+
+    private boolean isFacingRight = true; // Direction the player's view faces, for mirroring
+    private static final int SCREEN_WIDTH = 1280; // Width of the visible part of the level
 
     /**
      * Constructs a PlayerController to manage the player's movement and actions.
@@ -58,258 +55,77 @@ public class PlayerController {
      */
     public PlayerController(Scene scene, Pane root, int levelWidth, int index) {
         playerModel = new PlayerModel();
-        playerView = new PlayerView(root, playerModel, index);
-        scene.setOnKeyPressed(event -> keys.put(event.getCode(), true));
-        scene.setOnKeyReleased(event -> keys.put(event.getCode(), false));
-        this.levelWidth = levelWidth;
+        playerView = new PlayerView(root, index);
+        camera = new Camera(root);
+        scene.setOnKeyPressed(event -> input.keyPressed(event.getCode()));
+        scene.setOnKeyReleased(event -> input.keyReleased(event.getCode()));
+        physics = new PlayerPhysics(playerModel, world, input, EventManager.getInstance(), levelWidth);
     }
 
     /**
-     * Updates the player's position, velocity, and checks for collisions and interactions.
+     * Returns the input state read by the player, e.g. to change its key bindings.
      *
-     * @throws IOException If an error occurs during game state changes.
-     */
-    public void update() throws IOException {
-        handlePlayerInput(); // Handle key input
-
-        movePlayerY((int) playerModel.getPlayerVelocity().getY()); // Apply vertical velocity.
-        if (playerModel.getPlayerVelocity().getY() < 10) {
-            playerModel.setPlayerVelocity(playerModel.getPlayerVelocity().add(0, 1)); // Apply gravity.
-        }
-        playerModel.notifyObservers(); // Notify the view to update.
-
-        // If playerY is smaller than 780, means player is out of screen (drop into the dark hole)
-        // actually, it should be 720, but we add 60 to make sure that the player has opportunity to jump out of the dark hole
-        // then game over
-        if (playerModel.getY() > SCREEN_HEIGHT_THRESHOLD) {
-            try {
-                GameManager.getInstance().gameOver();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        checkSupplyCollection(); // Check for interactions with supply nodes.
-        checkDestinationReached(); // Check whether the player is at the place of destination
-        checkEnemyCollision(); // check if the player being attacked by enemy
-    }
-
-    /**
-     * Handles player movement based on key inputs.
+     * @return The player's input state.
      */
-    private void handlePlayerInput() {
-        if (isPressed(KeyCode.W) && playerModel.getY() >= MOVE_STEP) {
-            jumpPlayer();
-        }
-        if (isPressed(KeyCode.A) && playerModel.getX() >= MOVE_STEP) {
-            movePlayerX(-MOVE_STEP);
-        }
-        if (isPressed(KeyCode.D) && playerModel.getX() + playerView.getPlayerNode().getBoundsInLocal().getWidth() <= levelWidth - MOVE_STEP) {
-            movePlayerX(MOVE_STEP);
-        }
+    public InputState getInput() {
+        return input;
     }
 
     /**
-     * when player press a key, check if it is pressed or not
-     * @param keyCode
-     * @return
-     */
-    private boolean isPressed(KeyCode keyCode) {
-        return keys.getOrDefault(keyCode, false);
-    }
-
-    /**
-     * Checks and handles collisions with supply nodes.
-     */
-    private void checkSupplyCollection(){
-        SupplyNode toBeDeleted = null;
-
-        for (SupplyNode supplyNode: supplyNodes) {
-            if (supplyNode.node.getBoundsInParent().intersects(playerView.getPlayerNode().getBoundsInParent())) {
-                System.out.println("Collected supply!");
-                // When get the supply, delete it from the array
-                toBeDeleted = supplyNode;
-                DataManager.getInstance().getGameState().collectedSupplies += 1;
-                break;
-            }
-        }
-        if (toBeDeleted != null) {
-            SceneManager.getInstance().getGameRoot().getChildren().remove(toBeDeleted.node);
-            supplyNodes.remove(toBeDeleted);
-        }
-    }
-
-    /**
-     * Checks if the player has reached the destination.
-     *
-     * @throws IOException If an error occurs while switching to the "win" scene.
+     * Updates the player's position, velocity, and checks for collisions and interactions.
+     * <p>
+     * What the player runs into is posted to the {@link EventManager} and handled at the end of the tick,
+     * so the game never ends in the middle of an update.
      */
-    private void checkDestinationReached() throws IOException {
-        double midPlayerX = (playerView.getPlayerNode().getTranslateX() +
-                playerView.getPlayerNode().getBoundsInLocal().getWidth() / 2);
-
-        if (destinationNode != null && destinationNode.node.getBoundsInParent().contains(midPlayerX, playerModel.getY() + 70)) {
-            GameManager.getInstance().gameWin();
+    public void update() {
+        long time = profiler.mark();
+        input.poll(); // Take this tick's input
+        if (input.wasPressed(Action.PROFILER)) {
+            profiler.toggleOverlay();
         }
-    }
-
-    /**
-     * Checks if the player is attacked by an enemy.
-     *
-     * @throws IOException If an error occurs while switching to the "game over" scene.
-     */
-    private void checkEnemyCollision() throws IOException {
-        for (EnemyNode enemyNode : enemyNodes) {
-            if (enemyNode.node.getBoundsInParent().intersects(playerView.getPlayerNode().getBoundsInParent())) {
-                GameManager.getInstance().gameOver();
-                return;
-            }
+        if (input.wasPressed(Action.PROFILE_DUMP)) {
+            profiler.dumpCsv();
         }
-    }
-
-    /**
-     * Determines the speed factor based on the feature block the player is standing on.
-     *
-     * @param midPlayerX The middle X coordinate of the player.
-     * @return The speed factor (default is 1, increased or decreased based on the block type).
-     */
-    private double calculateSpeedFactor(double midPlayerX){
-        double speed_factor = 1;
+        time = profiler.lap(ProfilerManager.Phase.INPUT, time);
+        physics.move();
+        time = profiler.lap(ProfilerManager.Phase.PHYSICS, time);
+        physics.checkInteractions();
+        profiler.lap(ProfilerManager.Phase.COLLISION, time);
 
-        // judge if the player is on the feature blocks
-        for (FeatureNode featureNode : featureNodes) {
-            if (featureNode.node.getBoundsInParent().contains(midPlayerX, playerModel.getY() + 70)) {
-                speed_factor = switch (featureNode.featureType) {
-                    case FeatureBlock.ICE_BLOCK -> 2;
-                    case FeatureBlock.SNOW_BLOCK -> 0.5;
-                    default -> speed_factor;
-                };
-                break;
-            }
+        if (physics.isMovingRight() != isFacingRight) {
+            playerView.mirror(); // Mirror the player's view if direction changes.
+            isFacingRight = physics.isMovingRight();
         }
-        return speed_factor;
+        camera.moveTo(physics.getScrollX()); // keep the player where it is on screen
     }
 
     /**
-     * Moves the player horizontally by a specified value.
+     * Remembers the current player, scroll and body positions as the state before the next tick.
      * <p>
-     * Handles collision detection, adjusts speed based on feature blocks,
-     * and ensures platforms or the player move based on position.
-     *
-     * @param value The horizontal distance to move. Positive for right, negative for left.
+     * Called at the start of every simulation tick.
      */
-    private void movePlayerX(int value) {
-        boolean movingRight = value > 0;
-
-        if (isMovingRight != movingRight) {
-            playerView.mirror(); // Mirror the player's view if direction changes.
-        }
-        isMovingRight = movingRight;
-
-        // calculate the middle point of player
-        double playerMinX = playerView.getPlayerNode().getTranslateX();
-        double playerMaxX = playerMinX + playerView.getPlayerNode().getBoundsInLocal().getWidth();
-        double midPlayerX = (playerMinX + playerMaxX) / 2;
-
-        double speedFactor = calculateSpeedFactor(midPlayerX);
-
-        // when the player is in the center range, move platforms instead of player
-        boolean isInCenterRange = midPlayerX < CENTER_RANGE_MAX && midPlayerX > CENTER_RANGE_MIN;
-
-        for (int i = 0; i < Math.abs(value); i++) {
-            for (Node platform : platforms) {
-                // get platform boundaries
-                double platformMinX = platform.getBoundsInParent().getMinX();
-                double platformMaxX = platform.getBoundsInParent().getMaxX();
-
-                // check the collision
-                if (playerView.getPlayerNode().getBoundsInParent().intersects(platform.getBoundsInParent())
-                        && (playerView.getPlayerNode().getTranslateY() + 50 != platform.getTranslateY())) {
-                    // when colliding with platforms, check if the player is in the center range, if yes, move platforms, otherwise, update player position
-                    if (movingRight) {
-                        if (playerMaxX >= platformMinX && playerMinX < platformMinX) {
-                            return;
-                        }
-                    } else {
-                        if (playerMinX <= platformMaxX && playerMaxX > platformMaxX) {
-                            return;
-                        }
-                    }
-                }
-            }
-
-            // if the player is in the center range, move platforms instead of player
-            //  && platformMinX <= 5 && platformMaxX >= 1275
-            double displacement = speedFactor * (movingRight ? -1 : 1);
-            if (isInCenterRange) {
-                // move platforms
-                for (Node platform : platforms) {
-                    platform.setTranslateX(platform.getTranslateX() + displacement);
-                }
-
-                // move supplies and destination
-                for (SupplyNode supplyNode: supplyNodes) {
-                    supplyNode.node.setTranslateX(supplyNode.node.getTranslateX() + displacement);
-                }
-                destinationNode.node.setTranslateX(destinationNode.node.getTranslateX() + displacement);
-
-                // move movable objects
-                for (MovableNode movableNode: movableNodes) {
-                    if (!platforms.contains(movableNode.node)) movableNode.node.setTranslateX(movableNode.node.getTranslateX() + displacement);
-                }
-            } else {
-                // otherwise, update player position
-                playerModel.setX((int) (playerModel.getX() - displacement));
-                playerView.getPlayerNode().setTranslateX(playerModel.getX());
-            }
-        }
+    public void savePreviousState() {
+        previousX = playerModel.getX();
+        previousY = playerModel.getY();
+        camera.savePrevious();
+        world.savePreviousPositions();
     }
 
     /**
-     * Moves the player vertically based on the specified value.
+     * Moves the nodes of the scene to the positions of their bodies, interpolated between the last two ticks.
      * <p>
-     * Handles gravity and collision detection with platforms.
+     * Called once per frame after the simulation has caught up. The world view first streams in the
+     * chunks of the level around the camera and releases the ones that went off screen.
      *
-     * @param value The vertical distance to move. Positive for down, negative for up.
+     * @param alpha The fraction of a tick elapsed since the last tick, from 0 to 1.
      */
-    private void movePlayerY(int value) {
-        boolean movingDown = value > 0;
-        for (int i = 0; i < Math.abs(value); i++) {
-            for (Node platform : platforms) {
-                // get platform boundaries
-                double platformMinY = platform.getBoundsInParent().getMinY();
-                double platformMaxY = platform.getBoundsInParent().getMaxY();
-                double playerMinY = playerView.getPlayerNode().getTranslateY();
-                double playerMaxY = playerMinY + playerView.getPlayerNode().getBoundsInLocal().getHeight(); // use actual height
-
-                if (playerView.getPlayerNode().getBoundsInParent().intersects(platform.getBoundsInParent())) {
-                    if (movingDown) {
-                        if (playerMaxY >= platformMinY && playerMinY < platformMinY) {
-                            playerModel.setY((int) (platformMinY - playerView.getPlayerNode().getBoundsInLocal().getHeight()));
-                            playerModel.setCanJump(true); // can jump again
-                            return; // update player position and return
-                        }
-                    } else {
-                        if (playerMinY <= platformMaxY && playerMaxY > platformMaxY) {
-                            playerModel.setY((int) platformMaxY);
-                            return; // update player position and return
-                        }
-                    }
-                }
-            }
-
-            // update position
-            playerModel.setY(playerModel.getY() + (movingDown ? 1 : -1));
-            playerView.getPlayerNode().setTranslateY(playerModel.getY());
-        }
-    }
-
-    /**
-     * when player press W, jump
-     */
-    private void jumpPlayer() {
-        if (playerModel.isCanJump()) {
-            playerModel.setPlayerVelocity(playerModel.getPlayerVelocity().add(0, -30));
-            playerModel.setCanJump(false);
-        }
+    public void render(double alpha) {
+        double cameraX = camera.getInterpolatedX(alpha);
+        worldView.update(cameraX, cameraX + SCREEN_WIDTH);
+        worldView.sync(world, alpha);
+        playerView.render(previousX + (playerModel.getX() - previousX) * alpha,
+                previousY + (playerModel.getY() - previousY) * alpha);
+        camera.apply(alpha);
+        worldView.syncFacing(movers);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.platformer.escape_beyond.controller;
 
 import com.platformer.escape_beyond.manager.DataManager;
+import com.platformer.escape_beyond.manager.LogManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import com.platformer.escape_beyond.model.game.Score;
 import com.platformer.escape_beyond.manager.ScoreManager;
@@ -41,7 +42,7 @@ public class ScoreController {
      * Sets up button styles, loads scores, and updates the UI accordingly.
      */
     public void initialize() {
-        System.out.println("score.file.fxml initialized");
+        LogManager.getInstance().debug("screen_shown", "screen", "score");
 
         configureButtonHoverEffects();
 
@@ -0,0 +1,23 @@
+package com.platformer.escape_beyond.input;
+
+/**
+ * The actions the player can trigger, independent of the keys they are bound to.
+ * <p>
+ * Each action has a bit in an action mask, so the state of every action fits in one {@code int}.
+ */
+public enum Action {
+    JUMP, // Jump when standing on something
+    LEFT, // Move to the left
+    RIGHT, // Move to the right
+    PROFILER, // Show or hide the frame profiler overlay
+    PROFILE_DUMP; // Write the recorded frame times to a CSV file
+
+    /**
+     * Returns the bit of this action in an action mask.
+     *
+     * @return The action's mask bit.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,103 @@
+package com.platformer.escape_beyond.input;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Maps keys to the {@link Action}s they trigger.
+ * <p>
+ * The bindings are a table indexed by {@link KeyCode} ordinal holding an action mask per key, so
+ * looking up a key costs one array read. A key may trigger several actions and an action may be
+ * bound to several keys; schemes such as {@link #wasd()} and {@link #arrows()} can be combined
+ * with {@link #add(InputBindings)}.
+ */
+public class InputBindings {
+    static final int KEY_COUNT = KeyCode.values().length; // Number of key codes, the size of a key table
+
+    private final int[] actionsByKey = new int[KEY_COUNT]; // Action mask of each key, indexed by key ordinal
+
+    /**
+     * Binds a key to an action, in addition to the actions it already triggers.
+     *
+     * @param key    The key.
+     * @param action The action the key triggers.
+     * @return These bindings, for chaining.
+     */
+    public InputBindings bind(KeyCode key, Action action) {
+        actionsByKey[key.ordinal()] |= action.mask();
+        return this;
+    }
+
+    /**
+     * Removes every action bound to a key.
+     *
+     * @param key The key.
+     * @return These bindings, for chaining.
+     */
+    public InputBindings unbind(KeyCode key) {
+        actionsByKey[key.ordinal()] = 0;
+        return this;
+    }
+
+    /**
+     * Adds the bindings of another scheme to these bindings.
+     *
+     * @param other The scheme to add.
+     * @return These bindings, for chaining.
+     */
+    public InputBindings add(InputBindings other) {
+        for (int key = 0; key < KEY_COUNT; key++) {
+            actionsByKey[key] |= other.actionsByKey[key];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the actions triggered by a key.
+     *
+     * @param keyOrdinal The ordinal of the key's {@link KeyCode}.
+     * @return The action mask of the key.
+     */
+    public int getActions(int keyOrdinal) {
+        return actionsByKey[keyOrdinal];
+    }
+
+    /**
+     * Creates the W/A/D scheme: W jumps, A and D move.
+     *
+     * @return New bindings for the scheme.
+     */
+    public static InputBindings wasd() {
+        return new InputBindings()
+                .bind(KeyCode.W, Action.JUMP)
+                .bind(KeyCode.A, Action.LEFT)
+                .bind(KeyCode.D, Action.RIGHT);
+    }
+
+    /**
+     * Creates the arrow-key scheme: the up arrow or space jumps, the left and right arrows move.
+     *
+     * @return New bindings for the scheme.
+     */
+    public static InputBindings arrows() {
+        return new InputBindings()
+                .bind(KeyCode.UP, Action.JUMP)
+                .bind(KeyCode.SPACE, Action.JUMP)
+                .bind(KeyCode.LEFT, Action.LEFT)
+                .bind(KeyCode.RIGHT, Action.RIGHT);
+    }
+
+    /**
+     * Creates the default bindings: the W/A/D scheme, with F3 showing or hiding the frame profiler and F4
+     * writing its frames to a CSV file.
+     * <p>
+     * The arrow-key scheme is not included, since space fires the focused button of the menus and the
+     * arrows move the focus between them; it can be added with {@link #add(InputBindings)}.
+     *
+     * @return New default bindings.
+     */
+    public static InputBindings defaults() {
+        return wasd()
+                .bind(KeyCode.F3, Action.PROFILER)
+                .bind(KeyCode.F4, Action.PROFILE_DUMP);
+    }
+}
@@ -0,0 +1,162 @@
+package com.platformer.escape_beyond.input;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.Arrays;
+
+/**
+ * The keyboard state as seen by the simulation, one snapshot per tick.
+ * <p>
+ * Key events only set bits in a bitset indexed by {@link KeyCode} ordinal and record the actions
+ * that were pressed or released since the last tick. {@link #poll()} is called at the start of every
+ * tick and turns these into three action masks: the actions held during the tick, and the actions
+ * pressed or released since the previous tick. A key tapped between two ticks is therefore still seen
+ * for one tick. Nothing is allocated after construction, and a tick's input is fully described by its
+ * masks, which is what a replay needs to record.
+ */
+public class InputState {
+    private final long[] keysDown = new long[(InputBindings.KEY_COUNT + 63) >>> 6]; // Keys currently held, one bit per key ordinal
+    private InputBindings bindings; // Maps keys to actions
+
+    private int pendingPressed; // Actions pressed since the last poll
+    private int pendingReleased; // Actions released since the last poll
+
+    private int down; // Actions held during the current tick
+    private int pressed; // Actions pressed since the previous tick
+    private int released; // Actions released since the previous tick
+
+    /**
+     * Constructs an input state with no key held.
+     *
+     * @param bindings The key bindings to use.
+     */
+    public InputState(InputBindings bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Records a key press. Repeated press events of a held key are ignored.
+     *
+     * @param key The key pressed.
+     */
+    public void keyPressed(KeyCode key) {
+        int ordinal = key.ordinal();
+        long bit = 1L << ordinal;
+        int word = ordinal >>> 6;
+        if ((keysDown[word] & bit) == 0) {
+            keysDown[word] |= bit;
+            pendingPressed |= bindings.getActions(ordinal);
+        }
+    }
+
+    /**
+     * Records a key release.
+     *
+     * @param key The key released.
+     */
+    public void keyReleased(KeyCode key) {
+        int ordinal = key.ordinal();
+        long bit = 1L << ordinal;
+        int word = ordinal >>> 6;
+        if ((keysDown[word] & bit) != 0) {
+            keysDown[word] &= ~bit;
+            pendingReleased |= bindings.getActions(ordinal);
+        }
+    }
+
+    /**
+     * Takes the snapshot of the input for a new tick.
+     */
+    public void poll() {
+        int held = 0;
+        for (int word = 0; word < keysDown.length; word++) {
+            long bits = keysDown[word];
+            while (bits != 0) {
+                held |= bindings.getActions((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        down = held | pendingPressed;
+        pressed = pendingPressed;
+        released = pendingReleased;
+        pendingPressed = 0;
+        pendingReleased = 0;
+    }
+
+    /**
+     * Takes the snapshot of a new tick from a recorded mask instead of the keyboard, e.g. to replay
+     * a run or to script the input of a headless simulation. The pressed and released masks are
+     * derived from the previous tick's held actions.
+     *
+     * @param downMask The actions held during the tick, as a combination of {@link Action#mask()}s.
+     */
+    public void replay(int downMask) {
+        pressed = downMask & ~down;
+        released = down & ~downMask;
+        down = downMask;
+    }
+
+    /**
+     * Checks whether an action is held during the current tick.
+     *
+     * @param action The action.
+     * @return {@code true} if a key bound to the action is held, or was tapped since the previous tick.
+     */
+    public boolean isDown(Action action) {
+        return (down & action.mask()) != 0;
+    }
+
+    /**
+     * Checks whether an action was pressed since the previous tick.
+     *
+     * @param action The action.
+     * @return {@code true} if a key bound to the action went down since the previous tick.
+     */
+    public boolean wasPressed(Action action) {
+        return (pressed & action.mask()) != 0;
+    }
+
+    /**
+     * Checks whether an action was released since the previous tick.
+     *
+     * @param action The action.
+     * @return {@code true} if a key bound to the action went up since the previous tick.
+     */
+    public boolean wasReleased(Action action) {
+        return (released & action.mask()) != 0;
+    }
+
+    /**
+     * Replaces the key bindings. Keys already held are mapped with the new bindings from the next tick on.
+     *
+     * @param bindings The new key bindings.
+     */
+    public void setBindings(InputBindings bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Releases every key, e.g. when the game loses focus.
+     */
+    public void clear() {
+        Arrays.fill(keysDown, 0);
+        pendingPressed = 0;
+        pendingReleased = 0;
+        down = 0;
+        pressed = 0;
+        released = 0;
+    }
+
+    // Getters
+    public int getDownMask() {
+        return down;
+    }
+
+    public int getPressedMask() {
+        return pressed;
+    }
+
+    public int getReleasedMask() {
+        return released;
+    }
+}
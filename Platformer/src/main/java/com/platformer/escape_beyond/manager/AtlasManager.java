@@ -0,0 +1,49 @@
+package com.platformer.escape_beyond.manager;
+
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.game.EntitySelector;
+import com.platformer.escape_beyond.view.SpriteAtlas;
+
+import java.util.HashMap;
+
+/**
+ * Holds the sprite atlas of each map.
+ * <p>
+ * An atlas is packed the first time its map is played and kept for the rest of the session,
+ * so every later start of the map reuses the same texture. Atlases are packed on the level loading thread.
+ */
+public class AtlasManager {
+
+    // This is the singleton-instance
+    private static AtlasManager instance;
+
+    private final HashMap<Integer, SpriteAtlas> atlases = new HashMap<>(); // Packed atlas of each map, by map index
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private AtlasManager() {
+    }
+
+    /**
+     * Returns the singleton instance of {@code AtlasManager}, creating it on first use.
+     *
+     * @return The singleton instance of {@code AtlasManager}.
+     */
+    public static synchronized AtlasManager getInstance() {
+        if (instance == null) {
+            instance = new AtlasManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the atlas of a map, packing it on first use.
+     *
+     * @param mapIndex The index of the map (1 = Glacier, 2 = Desert).
+     * @return The {@code SpriteAtlas} holding the map's in-game sprites.
+     */
+    public synchronized SpriteAtlas getAtlas(int mapIndex) {
+        return atlases.computeIfAbsent(mapIndex, index -> SpriteAtlas.pack(EntitySelector.getSprites(LevelData.getLevel(index).getEntityTypes())));
+    }
+}
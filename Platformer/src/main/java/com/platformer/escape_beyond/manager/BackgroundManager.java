@@ -0,0 +1,74 @@
+package com.platformer.escape_beyond.manager;
+
+import com.platformer.escape_beyond.Main;
+import com.platformer.escape_beyond.model.entity.Map;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Loads and caches the map background images.
+ * <p>
+ * Backgrounds are large JPEGs drawn at the window size. They are decoded on JavaFX's background
+ * loader at 1280x720 as soon as a map is selected, so starting a game or showing the game over
+ * screen does not decode a full-size JPEG on the FX thread. Decoded backgrounds stay cached for
+ * the rest of the session, across restarts.
+ */
+public class BackgroundManager {
+
+    // This is the singleton-instance
+    private static BackgroundManager instance;
+
+    private static final int BACKGROUND_WIDTH = 1280; // Game width
+    private static final int BACKGROUND_HEIGHT = 720; // Game height
+
+    private final HashMap<String, Image> backgrounds = new HashMap<>(); // Decoded or loading backgrounds, by resource path
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private BackgroundManager() {
+    }
+
+    /**
+     * Returns the singleton instance of {@code BackgroundManager}, creating it on first use.
+     *
+     * @return The singleton instance of {@code BackgroundManager}.
+     */
+    public static synchronized BackgroundManager getInstance() {
+        if (instance == null) {
+            instance = new BackgroundManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts decoding every background of a map in the background.
+     *
+     * @param mapIndex The index of the map (1 = Glacier, 2 = Desert).
+     */
+    public void preload(int mapIndex) {
+        for (String url : Map.getMapBackgrounds(mapIndex)) {
+            getBackground(url);
+        }
+    }
+
+    /**
+     * Returns a background image, starting to load it if it has not been preloaded.
+     * <p>
+     * The image may still be loading; an {@code ImageView} showing it is updated once it is ready.
+     *
+     * @param url The resource path of the background.
+     * @return The background {@code Image}, scaled to the window size.
+     */
+    public Image getBackground(String url) {
+        Image image = backgrounds.get(url);
+        if (image == null || image.isError()) {
+            String location = Objects.requireNonNull(Main.class.getResource(url), "Image not found: " + url).toExternalForm();
+            image = new Image(location, BACKGROUND_WIDTH, BACKGROUND_HEIGHT, false, true, true);
+            backgrounds.put(url, image);
+        }
+        return image;
+    }
+}
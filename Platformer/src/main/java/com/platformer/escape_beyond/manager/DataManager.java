@@ -1,17 +1,12 @@
 package com.platformer.escape_beyond.manager;
 
 import com.platformer.escape_beyond.controller.PlayerController;
-import com.platformer.escape_beyond.model.entity.node.movable.MovableNode;
-import com.platformer.escape_beyond.model.entity.node.movable.enemy.EnemyNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.DestinationNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.FeatureNode;
-import com.platformer.escape_beyond.model.entity.node.stationary.SupplyNode;
 import com.platformer.escape_beyond.model.game.GameState;
+import com.platformer.escape_beyond.model.game.LevelLayout;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
 import com.platformer.escape_beyond.utils.IntArrayIterator;
-import javafx.scene.Node;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.platformer.escape_beyond.view.WorldView;
 
 /**
  * Manages and centralizes game-related data for the game.
@@ -21,6 +16,11 @@ import java.util.List;
  * access to game state, player data, platform nodes, and other entities in the game.
  * </p>
  * <p>
+ * The entities of a level are body ids shared by the stores of their components: the
+ * {@link PhysicsWorld} (position, box, collider kind), the {@link WorldView} (sprite) and the
+ * {@link MoverSystem} (patrol movement).
+ * </p>
+ * <p>
  * The class also provides utility methods to initialize, retrieve, and clear game data.
  * </p>
  */
@@ -29,14 +29,10 @@ public class DataManager {
     // This is the singleton-instance
     private static DataManager instance;
 
-    // Interface-oriented programming is the use of interfaces as data types which reduces the coupling of code
-    private final List<Node> platforms; // List of platform nodes in the game
-    private final List<FeatureNode> featureNodes; // List of feature nodes
-    private final List<SupplyNode> supplyNodes ; // List of supply nodes
-    private DestinationNode destinationNode; // The destination node in the game
-    private final List<MovableNode> movableNodes ; // List of movable nodes
-    private final List<EnemyNode> enemyNodes; // List of enemy nodes
     private PlayerController playerController; // Controller for player actions
+    private final PhysicsWorld physicsWorld; // Collision bodies of all entities in the level
+    private final WorldView worldView; // Nodes drawing the bodies of the physics world
+    private final MoverSystem moverSystem; // Movers patrolling the dynamic bodies of the physics world
 
     private IntArrayIterator rangeIterator; // Iterator for handling movable object ranges
     private GameState gameState; // Represents the current game state
@@ -58,11 +54,9 @@ public class DataManager {
     }
 
     private DataManager(){
-        this.platforms = new ArrayList<>(); // List of platform nodes in the game
-        this.featureNodes = new ArrayList<>(); // List of feature nodes
-        this.supplyNodes = new ArrayList<>(); // List of supply nodes
-        this.movableNodes = new ArrayList<>(); // List of movable nodes
-        this.enemyNodes = new ArrayList<>(); // List of enemy nodes
+        this.physicsWorld = new PhysicsWorld(LevelLayout.BLOCK_SIZE); // One grid cell per map tile
+        this.worldView = new WorldView();
+        this.moverSystem = new MoverSystem();
     }
 
     /**
@@ -112,66 +106,30 @@ public class DataManager {
     }
 
     /**
-     * Retrieves the list of platform nodes in the game.
-     *
-     * @return A {@code List} of {@code Node} objects representing platform nodes.
-     */
-    public List<Node> getPlatforms() {
-        return platforms;
-    }
-
-    /**
-     * Retrieves the list of feature nodes in the game.
-     *
-     * @return A {@code List} of {@code FeatureNode} objects.
-     */
-    public List<FeatureNode> getFeatureNodes() {
-        return featureNodes;
-    }
-
-    /**
-     * Retrieves the list of supply nodes in the game.
-     *
-     * @return A {@code List} of {@code SupplyNode} objects.
-     */
-    public List<SupplyNode> getSupplyNodes() {
-        return supplyNodes;
-    }
-
-    /**
-     * Retrieves the destination node in the game.
-     *
-     * @return The {@code DestinationNode} representing the game's goal.
-     */
-    public DestinationNode getDestinationNode() {
-        return destinationNode;
-    }
-
-    /**
-     * Sets the destination node in the game.
+     * Retrieves the physics world holding the collision bodies of the level.
      *
-     * @param destinationNode The {@code DestinationNode} to set.
+     * @return The {@code PhysicsWorld} of the current level.
      */
-    public void setDestinationNode(DestinationNode destinationNode) {
-        this.destinationNode = destinationNode;
+    public PhysicsWorld getPhysicsWorld() {
+        return physicsWorld;
     }
 
     /**
-     * Retrieves the list of movable nodes in the game.
+     * Retrieves the view that draws the bodies of the physics world.
      *
-     * @return A {@code List} of {@code MovableNode} objects.
+     * @return The {@code WorldView} of the current level.
      */
-    public List<MovableNode> getMovableNodes() {
-        return movableNodes;
+    public WorldView getWorldView() {
+        return worldView;
     }
 
     /**
-     * Retrieves the list of enemy nodes in the game.
+     * Retrieves the movers of the level, such as enemies and flying carpets.
      *
-     * @return A {@code List} of {@code EnemyNode} objects.
+     * @return The {@code MoverSystem} of the current level.
      */
-    public List<EnemyNode> getEnemyNodes() {
-        return enemyNodes;
+    public MoverSystem getMoverSystem() {
+        return moverSystem;
     }
 
     /**
@@ -190,9 +148,9 @@ public class DataManager {
      */
     public void setPlayerController(PlayerController playerController) {
         if (playerController == null) {
-            System.err.println("Attempting to set a null PlayerController!");
+            LogManager.getInstance().warn("player_controller_cleared");
         } else {
-            System.out.println("PlayerController has been successfully initialized.");
+            LogManager.getInstance().debug("player_controller_set");
         }
         this.playerController = playerController;
     }
@@ -205,12 +163,9 @@ public class DataManager {
      * and prepares the game data for a new session.
      */
     public void clearGameState() {
-        platforms.clear();
-        featureNodes.clear();
-        supplyNodes.clear();
-        movableNodes.clear();
-        enemyNodes.clear();
-        destinationNode = null;
+        moverSystem.clear();
+        physicsWorld.clear();
+        worldView.clear();
         playerController = null;
     }
 }
@@ -0,0 +1,144 @@
+package com.platformer.escape_beyond.manager;
+
+import com.platformer.escape_beyond.model.game.GameEvent;
+import com.platformer.escape_beyond.pattern.GameEventListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Queues the {@link GameEvent}s posted during a tick and dispatches them once the tick is over.
+ * <p>
+ * This class implements the Singleton design pattern. Events are kept in a ring buffer of event
+ * types and values, so posting an event allocates nothing. {@link #drain()} is called by the game
+ * loop at the end of every tick and calls the listeners of each event in the order the events were
+ * posted. A listener that ends the game clears the queue, so the events left from that tick are dropped.
+ * <p>
+ * The game's queue is the shared instance from {@link #getInstance()}. A headless run such as the
+ * {@link com.platformer.escape_beyond.model.game.Simulation} creates a queue of its own with the public
+ * constructor, so that its events never reach the game's listeners.
+ */
+public class EventManager {
+    // This is the singleton-instance
+    private static EventManager instance;
+
+    private static final int INITIAL_CAPACITY = 16; // Events the queue holds before growing
+
+    private GameEvent[] events = new GameEvent[INITIAL_CAPACITY]; // Types of the queued events
+    private int[] values = new int[INITIAL_CAPACITY]; // Values of the queued events
+    private int head; // Index of the oldest queued event
+    private int size; // Number of queued events
+
+    private final GameEventListener[][] listeners = new GameEventListener[GameEvent.values().length][0]; // Listeners of each event type
+
+    /**
+     * Constructs an empty queue without listeners, separate from the game's.
+     * <p>
+     * The game uses {@link #getInstance()}; separate queues are meant for headless runs and tests.
+     */
+    public EventManager() {
+    }
+
+    /**
+     * Returns the singleton instance of {@code EventManager}.
+     *
+     * @return The singleton instance of {@code EventManager}.
+     */
+    public static synchronized EventManager getInstance() {
+        if (instance == null) {
+            instance = new EventManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Subscribes a listener to an event type.
+     *
+     * @param event    The type of events to handle.
+     * @param listener The listener called for each event of the type.
+     */
+    public void subscribe(GameEvent event, GameEventListener listener) {
+        GameEventListener[] current = listeners[event.ordinal()];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[event.ordinal()] = updated;
+    }
+
+    /**
+     * Queues an event without a value.
+     *
+     * @param event The type of the event.
+     */
+    public void post(GameEvent event) {
+        post(event, 0);
+    }
+
+    /**
+     * Queues an event to be handled at the end of the tick.
+     *
+     * @param event The type of the event.
+     * @param value The value of the event; its meaning depends on the type.
+     */
+    public void post(GameEvent event, int value) {
+        if (size == events.length) {
+            grow();
+        }
+        int tail = (head + size) % events.length;
+        events[tail] = event;
+        values[tail] = value;
+        size++;
+    }
+
+    /**
+     * Dispatches the queued events to their listeners, oldest first, including the events posted by the listeners themselves.
+     *
+     * @throws IOException If a listener fails to switch scenes.
+     */
+    public void drain() throws IOException {
+        while (size > 0) {
+            GameEvent event = events[head];
+            int value = values[head];
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+
+            GameEventListener[] handlers = listeners[event.ordinal()];
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i].onEvent(event, value);
+            }
+        }
+    }
+
+    /**
+     * Drops every queued event, e.g. when the game ends.
+     */
+    public void clear() {
+        Arrays.fill(events, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of events waiting to be dispatched.
+     *
+     * @return The number of queued events.
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    /**
+     * Doubles the capacity of the queue, keeping the queued events in order.
+     */
+    private void grow() {
+        GameEvent[] grownEvents = new GameEvent[events.length * 2];
+        int[] grownValues = new int[values.length * 2];
+        for (int i = 0; i < size; i++) {
+            grownEvents[i] = events[(head + i) % events.length];
+            grownValues[i] = values[(head + i) % values.length];
+        }
+        events = grownEvents;
+        values = grownValues;
+        head = 0;
+    }
+}
@@ -1,8 +1,9 @@
 package com.platformer.escape_beyond.manager;
 
+import com.platformer.escape_beyond.model.game.GameEvent;
 import com.platformer.escape_beyond.model.game.GameState;
-import com.platformer.escape_beyond.utils.InitContent;
-import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.utils.LevelLoader;
+import com.platformer.escape_beyond.view.LoadingView;
 
 import java.io.IOException;
 
@@ -21,12 +22,32 @@ public class GameManager {
     private final SceneManager sceneManager;
     private final TimeManager timeManager;
     private final MusicManager musicManager;
+    private LevelLoader levelLoader; // The loader of the last level started
+    private final TextureManager textureManager;
+    private final EventManager eventManager;
+    private final MetricsManager metricsManager;
+    private final LogManager logManager;
 
     private GameManager() {
         this.dataManager = DataManager.getInstance();
         this.sceneManager = SceneManager.getInstance();
         this.timeManager = TimeManager.getInstance();
         this.musicManager = MusicManager.getInstance();
+        this.textureManager = TextureManager.getInstance();
+        this.eventManager = EventManager.getInstance();
+        this.metricsManager = MetricsManager.getInstance();
+        this.logManager = LogManager.getInstance();
+
+        // React to what happened during a tick once the tick is over
+        eventManager.subscribe(GameEvent.SUPPLY_COLLECTED, (event, value) -> {
+            dataManager.getWorldView().remove(value); // the event carries the body id of the supply
+            dataManager.getGameState().collectedSupplies += 1;
+            logManager.debug("supply_collected", "body", value);
+        });
+        eventManager.subscribe(GameEvent.ENEMY_HIT, (event, value) -> die(event));
+        eventManager.subscribe(GameEvent.FELL_OUT, (event, value) -> die(event));
+        eventManager.subscribe(GameEvent.GOAL_REACHED, (event, value) -> gameWin());
+        eventManager.subscribe(GameEvent.TIME_UP, (event, value) -> die(event));
     }
 
     /**
@@ -43,42 +64,84 @@ public class GameManager {
 
     /**
      * Callback function executed when the countdown ends.
-     * Switches to the "Game Over" scene.
+     * The game switches to the "Game Over" scene at the end of the next tick.
      *
      * @param elapsedTime the elapsed time since the start of the game
      */
     public void onCountdownEnd(int elapsedTime) {
-        System.out.println("Countdown finished!");
-        try {
-            sceneManager.setRoot("game_over");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load Game Over scene", e);
-        }
+        eventManager.post(GameEvent.TIME_UP, elapsedTime);
     }
 
     /**
      * Starts the game by initializing game content and setting up the game scene.
+     * <p>
+     * The level is loaded by a {@link LevelLoader} on a worker thread while a loading indicator is shown;
+     * once it has finished, the level is attached to the scene and the game starts. If the level cannot be
+     * loaded, the failure is logged and the player is sent back to the map screen. A request to start
+     * while a level is still loading is ignored.
      *
      * @throws IOException if there is an error during initialization.
      */
     public void startGame() throws IOException {
+        if (levelLoader != null && levelLoader.isRunning()) {
+            return;
+        }
         clearGameState();
         dataManager.getGameState().reset();
         sceneManager.getCurrentScene().setRoot(sceneManager.getAppRoot());
 
-        // Initialize game content dynamically
-        LevelData levelData = LevelData.createLevelData();
-        InitContent initContent = new InitContent(levelData);
-        initContent.initContent();
+        // Load the game content on a worker thread and show the progress meanwhile
+        long loadStart = System.nanoTime();
+        logManager.info("level_started", "level", levelLabel());
+        LevelLoader loader = new LevelLoader(dataManager.getGameState().map.index);
+        LoadingView loadingView = new LoadingView(loader);
+        sceneManager.getAppRoot().getChildren().add(loadingView.getRoot());
+
+        loader.setOnSucceeded(event -> {
+            sceneManager.getAppRoot().getChildren().remove(loadingView.getRoot());
+            try {
+                loader.getValue().attachContent();
+            } catch (RuntimeException e) {
+                levelLoadFailed(e);
+                return;
+            }
+            double loadSeconds = (System.nanoTime() - loadStart) / 1e9;
+            metricsManager.histogram("escape_beyond_level_load_seconds", "Time from starting a level to playing it.",
+                    MetricsManager.LOAD_BUCKETS, "level", levelLabel()).observe(loadSeconds);
+            logManager.info("level_loaded", "level", levelLabel(), "seconds", loadSeconds);
+
+            // Make sure the PlayerController is initialized before the Timer starts
+            if (DataManager.getInstance().getPlayerController() == null) {
+                throw new IllegalStateException("PlayerController is not initialized!");
+            }
+
+            // Start background music and timer
+            musicManager.playMusic(dataManager.getGameState().map.index);
+            timeManager.getTimer().start();
+        });
+        loader.setOnFailed(event -> levelLoadFailed(loader.getException()));
+        levelLoader = loader;
+
+        Thread thread = new Thread(loader, "level-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
 
-        // Make sure the PlayerController is initialized before the Timer starts
-        if (DataManager.getInstance().getPlayerController() == null) {
-            throw new IllegalStateException("PlayerController is not initialized!");
+    /**
+     * Abandons a level that could not be loaded: logs the failure, tears down whatever was built, including the
+     * loading indicator, and returns to the map screen so that another level can be chosen.
+     *
+     * @param cause The exception that stopped the loading.
+     */
+    private void levelLoadFailed(Throwable cause) {
+        logManager.error("level_load_failed", "level", levelLabel(), "error", cause);
+        timeManager.getTimer().stop();
+        clearGameState();
+        try {
+            sceneManager.setRoot("maps");
+        } catch (IOException e) {
+            logManager.error("screen_switch_failed", "screen", "maps", "error", e);
         }
-
-        // Start background music and timer
-        musicManager.playMusic(dataManager.getGameState().map.index);
-        timeManager.getTimer().start();
     }
 
     /**
@@ -91,6 +154,20 @@ public class GameManager {
         timeManager.getTimer().stop();
         clearGameState();
         sceneManager.setRoot("game_over");
+        metricsManager.writeFileAsync();
+    }
+
+    /**
+     * Counts a death of the player in the current level, then ends the game.
+     *
+     * @param cause The event that killed the player.
+     * @throws IOException if there is an error during the transition.
+     */
+    private void die(GameEvent cause) throws IOException {
+        metricsManager.counter("escape_beyond_deaths_total", "Games lost, by level and cause.",
+                "level", levelLabel(), "cause", cause.name().toLowerCase()).inc();
+        logManager.info("player_died", "level", levelLabel(), "cause", cause.name().toLowerCase());
+        gameOver();
     }
 
     /**
@@ -114,9 +191,13 @@ public class GameManager {
 
         int spentTime = GameState.TOTAL_TIME - totalSeconds;
         dataManager.getGameState().spentTime = spentTime;
+        metricsManager.histogram("escape_beyond_win_seconds", "Time taken to win a level.",
+                MetricsManager.WIN_BUCKETS, "level", levelLabel()).observe(spentTime);
+        logManager.info("level_won", "level", levelLabel(), "seconds", spentTime, "supplies", dataManager.getGameState().collectedSupplies);
         timeManager.getTimer().stop();
         clearGameState();
         sceneManager.setRoot("score");
+        metricsManager.writeFileAsync();
     }
 
     /**
@@ -151,12 +232,20 @@ public class GameManager {
      * Clears the current game state, including resetting timers, clearing UI and game roots, and stopping music.
      */
     private void clearGameState() {
+        eventManager.clear();
         musicManager.stopMusic();
         dataManager.clearGameState();
+        textureManager.releaseLevel();
         timeManager.stopLabelTimer();
         sceneManager.getGameRoot().getChildren().clear();
         sceneManager.getAppRoot().getChildren().clear();
         sceneManager.getUiRoot().getChildren().clear();
     }
 
+    /**
+     * Returns the index of the current level, as the value of the {@code level} label of the metrics.
+     */
+    private String levelLabel() {
+        return String.valueOf(dataManager.getGameState().map.index);
+    }
 }
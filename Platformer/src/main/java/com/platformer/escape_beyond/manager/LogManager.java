@@ -0,0 +1,507 @@
+package com.platformer.escape_beyond.manager;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes structured log events without blocking the thread that logs them.
+ * <p>
+ * This class implements the Singleton design pattern. An event is a name such as {@code level_loaded} followed by
+ * key and value pairs, and is written as one line in the logfmt format, e.g.
+ * {@code ts=2024-01-01T12:00:00.000Z level=INFO thread=main event=level_loaded level_index=1}.
+ * <p>
+ * Events below the level set with the system property {@value #LEVEL_PROPERTY} (INFO by default) are discarded by a
+ * single comparison; the overloads taking up to two fields do so before any array is built or any number is boxed.
+ * Enabled events are appended to a ring buffer of {@link #CAPACITY} slots: a thread claims a slot with a
+ * compare-and-set and never waits for a lock, and a daemon thread takes the events out in order and writes them to
+ * the console. The writer stays parked while the buffer is empty and is woken by the next event. When the buffer is
+ * full, the event is dropped and counted rather than blocking the game loop.
+ */
+public class LogManager {
+    // This is the singleton-instance
+    private static LogManager instance;
+
+    public static final String LEVEL_PROPERTY = "escape_beyond.log.level"; // System property setting the lowest level written
+    public static final int CAPACITY = 1024; // Slots of the ring buffer, a power of two
+    private static final long FLUSH_POLL_NANOS = 500_000; // How often flush checks whether the events are written
+
+    /**
+     * The severity of an event.
+     */
+    public enum Level {
+        DEBUG, // Details of what happens every tick
+        INFO, // Changes of screen and level
+        WARN, // Something unexpected the game recovers from
+        ERROR, // Something that failed
+        OFF // Used as the threshold to write nothing
+    }
+
+    /**
+     * An event waiting to be written.
+     */
+    private record Entry(long timeMillis, Level level, String thread, String event, Object[] fields) {
+    }
+
+    private final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(CAPACITY); // The ring buffer
+    private final AtomicLong tail = new AtomicLong(); // Sequence of the next slot to claim
+    private final AtomicLong head = new AtomicLong(); // Sequence of the next slot to write, only advanced by the writer
+    private final AtomicLong written = new AtomicLong(); // Events printed so far, advanced by the writer after each line
+    private final LongAdder dropped = new LongAdder(); // Events dropped because the buffer was full
+    private final PrintStream out = System.out; // Where events are written
+    private final StringBuilder line = new StringBuilder(); // The line being written, reused by the writer
+    private final Thread writer; // Takes the events out of the buffer and writes them
+    private volatile boolean writerParked; // Whether the writer is parked or about to park, waiting for an event
+    private volatile int threshold; // Ordinal of the lowest level written
+
+    /**
+     * Private constructor to enforce the Singleton pattern. Reads the level and starts the writer thread.
+     */
+    private LogManager() {
+        Level level = Level.INFO;
+        String property = System.getProperty(LEVEL_PROPERTY);
+        if (property != null) {
+            try {
+                level = Level.valueOf(property.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                out.println("Unknown log level " + property + ", using INFO");
+            }
+        }
+        threshold = level.ordinal();
+
+        writer = new Thread(this::runWriter, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Returns the singleton instance of {@code LogManager}.
+     *
+     * @return The singleton instance of {@code LogManager}.
+     */
+    public static synchronized LogManager getInstance() {
+        if (instance == null) {
+            instance = new LogManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether events of a level are written, to skip building costly values of disabled events.
+     *
+     * @param level The level.
+     * @return {@code true} if events of the level are written.
+     */
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    /**
+     * Sets the lowest level written.
+     *
+     * @param level The level; {@link Level#OFF} writes nothing.
+     */
+    public void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Logs an event without fields at the debug level.
+     *
+     * @param event The name of the event.
+     */
+    public void debug(String event) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, event);
+        }
+    }
+
+    /**
+     * Logs an event with a number at the debug level, without boxing it when the level is disabled.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void debug(String event, String key, long value) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with one field at the debug level.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void debug(String event, String key, Object value) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with two fields at the debug level.
+     *
+     * @param event  The name of the event.
+     * @param key1   The name of the first field.
+     * @param value1 The value of the first field.
+     * @param key2   The name of the second field.
+     * @param value2 The value of the second field.
+     */
+    public void debug(String event, String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, event, key1, value1, key2, value2);
+        }
+    }
+
+    /**
+     * Logs an event with fields at the debug level.
+     *
+     * @param event  The name of the event.
+     * @param fields The field names and values, alternating. The array is built and the values boxed even when
+     *               the level is disabled, so guard frequent calls with {@link #isEnabled(Level)}.
+     */
+    public void debug(String event, Object... fields) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, event, fields);
+        }
+    }
+
+    /**
+     * Logs an event without fields at the info level.
+     *
+     * @param event The name of the event.
+     */
+    public void info(String event) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, event);
+        }
+    }
+
+    /**
+     * Logs an event with a number at the info level, without boxing it when the level is disabled.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void info(String event, String key, long value) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with one field at the info level.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void info(String event, String key, Object value) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with two fields at the info level.
+     *
+     * @param event  The name of the event.
+     * @param key1   The name of the first field.
+     * @param value1 The value of the first field.
+     * @param key2   The name of the second field.
+     * @param value2 The value of the second field.
+     */
+    public void info(String event, String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, event, key1, value1, key2, value2);
+        }
+    }
+
+    /**
+     * Logs an event with fields at the info level.
+     *
+     * @param event  The name of the event.
+     * @param fields The field names and values, alternating. The array is built and the values boxed even when
+     *               the level is disabled, so guard frequent calls with {@link #isEnabled(Level)}.
+     */
+    public void info(String event, Object... fields) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, event, fields);
+        }
+    }
+
+    /**
+     * Logs an event without fields at the warning level.
+     *
+     * @param event The name of the event.
+     */
+    public void warn(String event) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, event);
+        }
+    }
+
+    /**
+     * Logs an event with a number at the warning level, without boxing it when the level is disabled.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void warn(String event, String key, long value) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with one field at the warning level.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void warn(String event, String key, Object value) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with two fields at the warning level.
+     *
+     * @param event  The name of the event.
+     * @param key1   The name of the first field.
+     * @param value1 The value of the first field.
+     * @param key2   The name of the second field.
+     * @param value2 The value of the second field.
+     */
+    public void warn(String event, String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, event, key1, value1, key2, value2);
+        }
+    }
+
+    /**
+     * Logs an event with fields at the warning level.
+     *
+     * @param event  The name of the event.
+     * @param fields The field names and values, alternating. The array is built and the values boxed even when
+     *               the level is disabled, so guard frequent calls with {@link #isEnabled(Level)}.
+     */
+    public void warn(String event, Object... fields) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, event, fields);
+        }
+    }
+
+    /**
+     * Logs an event without fields at the error level. A {@link Throwable} value is written with its stack trace.
+     *
+     * @param event The name of the event.
+     */
+    public void error(String event) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, event);
+        }
+    }
+
+    /**
+     * Logs an event with a number at the error level, without boxing it when the level is disabled.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void error(String event, String key, long value) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with one field at the error level. A {@link Throwable} value is written with its stack trace.
+     *
+     * @param event The name of the event.
+     * @param key   The name of the field.
+     * @param value The value of the field.
+     */
+    public void error(String event, String key, Object value) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, event, key, value);
+        }
+    }
+
+    /**
+     * Logs an event with two fields at the error level. A {@link Throwable} value is written with its stack trace.
+     *
+     * @param event  The name of the event.
+     * @param key1   The name of the first field.
+     * @param value1 The value of the first field.
+     * @param key2   The name of the second field.
+     * @param value2 The value of the second field.
+     */
+    public void error(String event, String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, event, key1, value1, key2, value2);
+        }
+    }
+
+    /**
+     * Logs an event with fields at the error level. A {@link Throwable} value is written with its stack trace.
+     *
+     * @param event  The name of the event.
+     * @param fields The field names and values, alternating. The array is built and the values boxed even when
+     *               the level is disabled, so guard frequent calls with {@link #isEnabled(Level)}.
+     */
+    public void error(String event, Object... fields) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, event, fields);
+        }
+    }
+
+    /**
+     * Waits until every event logged so far has been written, e.g. before the application exits.
+     *
+     * @param timeoutMillis The longest time to wait, in milliseconds.
+     */
+    public void flush(long timeoutMillis) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+        LockSupport.unpark(writer);
+        while (written.get() < target && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return The number of events dropped since the start.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Claims a slot of the ring buffer and stores an event in it, or drops the event if the buffer is full.
+     */
+    private void append(Level level, String event, Object... fields) {
+        if (fields.length % 2 != 0) {
+            throw new IllegalArgumentException("Log fields must be given as name and value pairs");
+        }
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() >= CAPACITY) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.set((int) (sequence & (CAPACITY - 1)), new Entry(System.currentTimeMillis(), level,
+                Thread.currentThread().getName(), event, fields));
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Writes the events of the buffer in order, parking whenever it is empty.
+     * <p>
+     * A slot is read once the thread that claimed it has stored its event, then emptied before the head moves on,
+     * so that the slot can be claimed again. Before parking, the writer raises {@code writerParked} and looks at the
+     * slot once more; a thread storing an event looks at the flag after the store, so one of the two sees the other
+     * and no event is left waiting while the writer sleeps. The written count only moves on once the line is printed, which is
+     * what {@link #flush(long)} waits for.
+     */
+    private void runWriter() {
+        long reportedDrops = 0;
+        while (true) {
+            long sequence = head.get();
+            int slot = (int) (sequence & (CAPACITY - 1));
+            Entry entry = slots.get(slot);
+            if (entry == null) {
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    out.println("ts=" + Instant.ofEpochMilli(System.currentTimeMillis()) + " level=WARN thread=log-writer event=log_events_dropped count=" + (drops - reportedDrops));
+                    reportedDrops = drops;
+                }
+                out.flush();
+                writerParked = true;
+                if (slots.get(slot) == null) {
+                    LockSupport.park(this);
+                }
+                writerParked = false;
+                continue;
+            }
+            slots.set(slot, null);
+            head.set(sequence + 1);
+            write(entry);
+            written.set(sequence + 1);
+        }
+    }
+
+    /**
+     * Formats an event as one logfmt line, followed by the stack traces of its {@link Throwable} values.
+     */
+    private void write(Entry entry) {
+        line.setLength(0);
+        line.append("ts=").append(Instant.ofEpochMilli(entry.timeMillis()))
+                .append(" level=").append(entry.level())
+                .append(" thread=");
+        appendValue(entry.thread());
+        line.append(" event=");
+        appendValue(entry.event());
+        Object[] fields = entry.fields();
+        for (int k = 0; k < fields.length; k += 2) {
+            line.append(' ').append(fields[k]).append('=');
+            Object value = fields[k + 1];
+            appendValue(value instanceof Throwable throwable ? throwable.toString() : String.valueOf(value));
+        }
+        out.println(line);
+        for (int k = 1; k < fields.length; k += 2) {
+            if (fields[k] instanceof Throwable throwable) {
+                StringWriter trace = new StringWriter();
+                throwable.printStackTrace(new PrintWriter(trace));
+                out.print(trace);
+            }
+        }
+    }
+
+    /**
+     * Appends a value, quoted and escaped if it contains spaces, quotes or equals signs.
+     */
+    private void appendValue(String value) {
+        boolean quote = value.isEmpty();
+        for (int k = 0; k < value.length() && !quote; k++) {
+            char c = value.charAt(k);
+            quote = c <= ' ' || c == '"' || c == '=' || c == '\\';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                default -> line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,279 @@
+package com.platformer.escape_beyond.manager;
+
+import com.platformer.escape_beyond.metrics.Counter;
+import com.platformer.escape_beyond.metrics.Gauge;
+import com.platformer.escape_beyond.metrics.Histogram;
+import com.platformer.escape_beyond.metrics.Metric;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Keeps the counters, gauges and histograms describing how the game runs, and exports them in the
+ * Prometheus text exposition format.
+ * <p>
+ * This class implements the Singleton design pattern. Metrics are looked up once, when the code using them is set up,
+ * and then updated without locking. They are exported to a file when a game ends, in the background, and when the
+ * application exits:
+ * {@code ~/.escape_beyond/metrics.prom} unless the system property {@value #FILE_PROPERTY} names another file.
+ * When the system property {@value #PORT_PROPERTY} is set, they are also served at {@code /metrics} on that port of
+ * the loopback address, so a local Prometheus server can scrape the game while it runs.
+ */
+public class MetricsManager {
+    // This is the singleton-instance
+    private static MetricsManager instance;
+
+    public static final String FILE_PROPERTY = "escape_beyond.metrics.file"; // System property naming the export file
+    public static final String PORT_PROPERTY = "escape_beyond.metrics.port"; // System property enabling the HTTP endpoint
+    private static final File DEFAULT_FILE = new File(System.getProperty("user.home"), ".escape_beyond/metrics.prom"); // Default export file
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8"; // Content type of the exposition format
+
+    public static final double[] FRAME_BUCKETS = {0.008, 0.0167, 0.025, 0.0334, 0.05, 0.1, 0.25}; // Frame times, in seconds
+    public static final double[] LOAD_BUCKETS = {0.05, 0.1, 0.25, 0.5, 1, 2.5, 5}; // Level load times, in seconds
+    public static final double[] WIN_BUCKETS = {30, 60, 90, 120, 180, 240, 300}; // Times to win a level, in seconds
+
+    /**
+     * The metrics sharing a name, help text and type, one per set of label values.
+     */
+    private static class Family {
+        private final String help; // Description of the metric
+        private final String type; // "counter", "gauge" or "histogram"
+        private final Map<String, Metric> children = new LinkedHashMap<>(); // Metrics by formatted labels
+
+        private Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private final Map<String, Family> families = new LinkedHashMap<>(); // Metric families by name, in registration order
+    private HttpServer server; // Serves the metrics, or null if the endpoint is off
+    private final Object fileLock = new Object(); // Keeps two writes of the export file from interleaving
+    private final ExecutorService fileWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-writer");
+        thread.setDaemon(true);
+        return thread;
+    }); // Writes the export file off the JavaFX thread
+
+    /**
+     * Private constructor to enforce the Singleton pattern. Registers the metrics of the JVM's garbage collectors.
+     */
+    private MetricsManager() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String[] labels = {"collector", collector.getName()};
+            functionCounter("jvm_gc_collections_total", "Garbage collections run by the collector.",
+                    collector::getCollectionCount, labels);
+            functionCounter("jvm_gc_pause_seconds_total", "Time spent in garbage collections by the collector.",
+                    () -> collector.getCollectionTime() / 1000.0, labels);
+        }
+        gauge("jvm_memory_heap_used_bytes", "Heap memory in use.",
+                () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * Returns the singleton instance of {@code MetricsManager}.
+     *
+     * @return The singleton instance of {@code MetricsManager}.
+     */
+    public static synchronized MetricsManager getInstance() {
+        if (instance == null) {
+            instance = new MetricsManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts the HTTP endpoint if the system property {@value #PORT_PROPERTY} is set.
+     */
+    public synchronized void init() {
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(port)), 0);
+            server.createContext("/metrics", exchange -> {
+                byte[] body = export().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-http");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+        } catch (IOException | NumberFormatException e) {
+            server = null;
+            LogManager.getInstance().error("metrics_endpoint_failed", "port", port, "error", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the counter with the given name and labels, creating it on first use.
+     *
+     * @param name   The metric name.
+     * @param help   The description of the metric.
+     * @param labels The label names and values, alternating, e.g. {@code "level", "1"}.
+     * @return The counter.
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return register(name, help, "counter", labels, formatted -> new Counter(formatted, null));
+    }
+
+    /**
+     * Registers a counter reading a running total kept elsewhere.
+     *
+     * @param name   The metric name.
+     * @param help   The description of the metric.
+     * @param source Reads the total; called when the metrics are exported.
+     * @param labels The label names and values, alternating.
+     * @return The counter.
+     */
+    public Counter functionCounter(String name, String help, DoubleSupplier source, String... labels) {
+        return register(name, help, "counter", labels, formatted -> new Counter(formatted, source));
+    }
+
+    /**
+     * Registers a gauge reading its value when the metrics are exported.
+     *
+     * @param name   The metric name.
+     * @param help   The description of the metric.
+     * @param source Reads the current value.
+     * @param labels The label names and values, alternating.
+     * @return The gauge.
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier source, String... labels) {
+        return register(name, help, "gauge", labels, formatted -> new Gauge(formatted, source));
+    }
+
+    /**
+     * Returns the histogram with the given name and labels, creating it on first use.
+     *
+     * @param name    The metric name.
+     * @param help    The description of the metric.
+     * @param buckets The upper bounds of the buckets, in increasing order.
+     * @param labels  The label names and values, alternating.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name, String help, double[] buckets, String... labels) {
+        return register(name, help, "histogram", labels, formatted -> new Histogram(formatted, buckets));
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format.
+     *
+     * @param writer The writer receiving the text.
+     * @throws IOException If writing fails.
+     */
+    public void writePrometheus(Writer writer) throws IOException {
+        writer.write(export());
+    }
+
+    /**
+     * Writes every metric to the export file.
+     *
+     * @return The file written, or {@code null} if it could not be written.
+     */
+    public File writeFile() {
+        String path = System.getProperty(FILE_PROPERTY);
+        File file = path != null ? new File(path) : DEFAULT_FILE;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        synchronized (fileLock) {
+            try (Writer writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+                writePrometheus(writer);
+                LogManager.getInstance().debug("metrics_written", "file", file.getPath());
+                return file;
+            } catch (IOException e) {
+                LogManager.getInstance().error("metrics_write_failed", "error", e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Writes every metric to the export file on a background thread, so the caller does not wait for the disk.
+     */
+    public void writeFileAsync() {
+        fileWriter.execute(this::writeFile);
+    }
+
+    /**
+     * Stops the HTTP endpoint, if it is running.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Looks up or creates a metric of a family.
+     *
+     * @throws IllegalArgumentException If the name is already used by a metric of another type, or the labels are not in pairs.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends Metric> T register(String name, String help, String type, String[] labels, Function<String, T> factory) {
+        Family family = families.computeIfAbsent(name, n -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return (T) family.children.computeIfAbsent(formatLabels(labels), factory);
+    }
+
+    /**
+     * Renders every family as text.
+     */
+    private synchronized String export() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            Family family = entry.getValue();
+            out.append("# HELP ").append(entry.getKey()).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(entry.getKey()).append(' ').append(family.type).append('\n');
+            for (Metric metric : family.children.values()) {
+                metric.write(entry.getKey(), out);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Formats label names and values as {@code name="value"} pairs, escaping the values.
+     */
+    private static String formatLabels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name and value pairs");
+        }
+        StringBuilder formatted = new StringBuilder();
+        for (int k = 0; k < labels.length; k += 2) {
+            if (k > 0) {
+                formatted.append(',');
+            }
+            String value = labels[k + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+            formatted.append(labels[k]).append("=\"").append(value).append('"');
+        }
+        return formatted.toString();
+    }
+}
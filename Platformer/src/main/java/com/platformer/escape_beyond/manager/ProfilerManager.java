@@ -0,0 +1,279 @@
+package com.platformer.escape_beyond.manager;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Records how long each frame of the game loop takes, and how that time splits between the phases of a tick.
+ * <p>
+ * This class implements the Singleton design pattern. The game loop times its phases with {@link #mark()} and
+ * {@link #lap(Phase, long)}, which add to the totals of the current frame, and closes each frame with
+ * {@link #endFrame(long, int, int, int)}. Frames are kept in a ring buffer of primitive arrays holding the last
+ * {@link #CAPACITY} frames, so recording allocates nothing and is always on: when a player reports stutter, the
+ * frames before it can be dumped to a CSV file with {@link #dumpCsv()} and read phase by phase.
+ */
+public class ProfilerManager {
+    // This is the singleton-instance
+    private static ProfilerManager instance;
+
+    public static final int CAPACITY = 4096; // Frames kept, about a minute at 60 frames per second
+    private static final int FPS_FRAMES = 60; // Frames averaged for the frame rate and the phase times
+    private static final File PROFILE_DIRECTORY = new File(System.getProperty("user.home"), ".escape_beyond/profiles"); // Where CSV dumps are written
+
+    /**
+     * The phases of a frame that are timed.
+     */
+    public enum Phase {
+        INPUT, // Taking the input snapshot of a tick
+        PHYSICS, // Saving the state to interpolate from, and moving the player
+        COLLISION, // Checking what the player touches
+        MOVERS, // Stepping the enemies and flying carpets
+        EVENTS, // Handling the events of a tick
+        RENDER // Syncing the scene with the world
+    }
+
+    private static final int PHASE_COUNT = Phase.values().length;
+
+    private final long[] frameStart = new long[CAPACITY]; // Timestamp of each frame, in nanoseconds
+    private final long[] frameInterval = new long[CAPACITY]; // Time since the previous frame, in nanoseconds
+    private final int[] frameTicks = new int[CAPACITY]; // Ticks run in each frame
+    private final long[][] phaseNanos = new long[PHASE_COUNT][CAPACITY]; // Time spent in each phase, per frame
+    private final int[] bodyCount = new int[CAPACITY]; // Bodies in the physics world at the end of each frame
+    private final int[] moverCount = new int[CAPACITY]; // Movers at the end of each frame
+    private final int[] nodeCount = new int[CAPACITY]; // Nodes in the world layer at the end of each frame
+
+    private long frames; // Frames recorded since the start
+    private long lastFrameStart = -1; // Timestamp of the previous frame, or -1 before the first one
+    private final long[] currentPhaseNanos = new long[PHASE_COUNT]; // Time spent in each phase during the current frame
+    private int currentTicks; // Ticks run during the current frame
+    private final long[] sortScratch = new long[CAPACITY]; // Copy of the intervals sorted for percentiles
+
+    private boolean overlayVisible; // Whether the profiler overlay is shown
+
+    /**
+     * Returns the singleton instance of {@code ProfilerManager}.
+     *
+     * @return The singleton instance of {@code ProfilerManager}.
+     */
+    public static synchronized ProfilerManager getInstance() {
+        if (instance == null) {
+            instance = new ProfilerManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the current time, to start timing a phase.
+     *
+     * @return The current time, in nanoseconds.
+     */
+    public long mark() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Adds the time elapsed since a mark to a phase of the current frame.
+     *
+     * @param phase The phase that just ended.
+     * @param start The time the phase started, from {@link #mark()} or a previous lap.
+     * @return The current time, to start timing the next phase.
+     */
+    public long lap(Phase phase, long start) {
+        long now = System.nanoTime();
+        currentPhaseNanos[phase.ordinal()] += now - start;
+        return now;
+    }
+
+    /**
+     * Counts a tick run during the current frame.
+     */
+    public void tick() {
+        currentTicks++;
+    }
+
+    /**
+     * Closes the current frame and stores it in the ring buffer.
+     *
+     * @param now    The timestamp of the frame, as passed to the game loop.
+     * @param bodies The number of bodies in the physics world.
+     * @param movers The number of movers.
+     * @param nodes  The number of nodes in the world layer.
+     */
+    public void endFrame(long now, int bodies, int movers, int nodes) {
+        int slot = (int) (frames % CAPACITY);
+        frameStart[slot] = now;
+        frameInterval[slot] = lastFrameStart < 0 ? 0 : now - lastFrameStart;
+        frameTicks[slot] = currentTicks;
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            phaseNanos[phase][slot] = currentPhaseNanos[phase];
+            currentPhaseNanos[phase] = 0;
+        }
+        bodyCount[slot] = bodies;
+        moverCount[slot] = movers;
+        nodeCount[slot] = nodes;
+        currentTicks = 0;
+        lastFrameStart = now;
+        frames++;
+    }
+
+    /**
+     * Forgets the time of the previous frame, e.g. when the game loop is stopped, so that the pause is not
+     * recorded as a long frame.
+     */
+    public void resetFrameClock() {
+        lastFrameStart = -1;
+        Arrays.fill(currentPhaseNanos, 0);
+        currentTicks = 0;
+    }
+
+    /**
+     * Returns the frame rate over the last frames.
+     *
+     * @return The frames per second, or 0 before two frames have been recorded.
+     */
+    public double getFps() {
+        long total = 0;
+        int count = 0;
+        for (int k = 0; k < Math.min(FPS_FRAMES, getFrameCount()); k++) {
+            long interval = frameInterval[slotFromEnd(k)];
+            if (interval > 0) {
+                total += interval;
+                count++;
+            }
+        }
+        return total == 0 ? 0 : count * 1e9 / total;
+    }
+
+    /**
+     * Returns a percentile of the time between frames, over the frames in the buffer.
+     *
+     * @param percentile The percentile, from 0 to 100 (e.g. 50 for the median).
+     * @return The frame time at the percentile, in nanoseconds, or 0 if no frame has been recorded.
+     */
+    public long getFrameTimePercentile(double percentile) {
+        int count = 0;
+        for (int k = 0; k < getFrameCount(); k++) {
+            long interval = frameInterval[slotFromEnd(k)];
+            if (interval > 0) {
+                sortScratch[count++] = interval;
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(sortScratch, 0, count);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sortScratch[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    /**
+     * Returns the average time a phase takes per frame, over the last frames.
+     *
+     * @param phase The phase.
+     * @return The average time spent in the phase per frame, in nanoseconds.
+     */
+    public long getAveragePhaseNanos(Phase phase) {
+        int count = Math.min(FPS_FRAMES, getFrameCount());
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int k = 0; k < count; k++) {
+            total += phaseNanos[phase.ordinal()][slotFromEnd(k)];
+        }
+        return total / count;
+    }
+
+    /**
+     * Writes the frames in the buffer as CSV, oldest first, with one line per frame and times in nanoseconds.
+     *
+     * @param writer The writer receiving the CSV text.
+     * @throws IOException If writing fails.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder("frame,start_ns,interval_ns,ticks");
+        for (Phase phase : Phase.values()) {
+            line.append(',').append(phase.name().toLowerCase()).append("_ns");
+        }
+        line.append(",bodies,movers,nodes\n");
+        writer.write(line.toString());
+
+        int count = getFrameCount();
+        for (int k = count - 1; k >= 0; k--) {
+            int slot = slotFromEnd(k);
+            line.setLength(0);
+            line.append(frames - 1 - k).append(',').append(frameStart[slot]).append(',')
+                    .append(frameInterval[slot]).append(',').append(frameTicks[slot]);
+            for (int phase = 0; phase < PHASE_COUNT; phase++) {
+                line.append(',').append(phaseNanos[phase][slot]);
+            }
+            line.append(',').append(bodyCount[slot]).append(',').append(moverCount[slot])
+                    .append(',').append(nodeCount[slot]).append('\n');
+            writer.write(line.toString());
+        }
+    }
+
+    /**
+     * Dumps the frames in the buffer to a new CSV file in the profile directory.
+     *
+     * @return The file written, or {@code null} if it could not be written.
+     */
+    public File dumpCsv() {
+        PROFILE_DIRECTORY.mkdirs();
+        File file = new File(PROFILE_DIRECTORY, "frames-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        try (Writer writer = new FileWriter(file)) {
+            writeCsv(writer);
+            LogManager.getInstance().info("frame_profile_written", "file", file.getPath());
+            return file;
+        } catch (IOException e) {
+            LogManager.getInstance().error("frame_profile_failed", "error", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Shows or hides the profiler overlay.
+     */
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+    }
+
+    /**
+     * Returns the buffer slot of a recent frame.
+     *
+     * @param k The age of the frame: 0 for the last frame recorded, 1 for the one before, and so on.
+     */
+    private int slotFromEnd(int k) {
+        return (int) ((frames - 1 - k) % CAPACITY);
+    }
+
+    // Getters
+    public int getFrameCount() {
+        return (int) Math.min(frames, CAPACITY);
+    }
+
+    public long getLastFrameInterval() {
+        return frames == 0 ? 0 : frameInterval[slotFromEnd(0)];
+    }
+
+    public int getLastBodyCount() {
+        return frames == 0 ? 0 : bodyCount[slotFromEnd(0)];
+    }
+
+    public int getLastMoverCount() {
+        return frames == 0 ? 0 : moverCount[slotFromEnd(0)];
+    }
+
+    public int getLastNodeCount() {
+        return frames == 0 ? 0 : nodeCount[slotFromEnd(0)];
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+}
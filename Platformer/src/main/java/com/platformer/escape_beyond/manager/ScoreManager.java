@@ -36,8 +36,7 @@ public class ScoreManager {
                 file.createNewFile();
                 serializeScores(new ArrayList<>()); // 初始化空分数
             } catch (IOException e) {
-                System.err.println("Failed to create scores file.");
-                e.printStackTrace();
+                LogManager.getInstance().error("scores_file_create_failed", "error", e);
             }
         }
     }
@@ -62,9 +61,9 @@ public class ScoreManager {
         ensureFileExists();
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(getFilePath()))) {
             oos.writeObject(scores);
-            System.out.println("Scores serialized successfully");
+            LogManager.getInstance().debug("scores_saved", "count", scores.size());
         } catch (IOException e) {
-            System.err.println("Error serializing scores: " + e.getMessage());
+            LogManager.getInstance().error("scores_save_failed", "error", e.getMessage());
         }
     }
 
@@ -84,9 +83,9 @@ public class ScoreManager {
         List<Score> scores = new ArrayList<>();
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(getFilePath()))) {
             scores = (List<Score>) ois.readObject();
-            System.out.println("Scores deserialized successfully");
+            LogManager.getInstance().debug("scores_loaded", "count", scores.size());
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("Error reading scores file: " + e.getMessage());
+            LogManager.getInstance().error("scores_load_failed", "error", e.getMessage());
         }
         return scores;
     }
@@ -0,0 +1,238 @@
+package com.platformer.escape_beyond.manager;
+
+import com.platformer.escape_beyond.Main;
+import com.platformer.escape_beyond.metrics.Counter;
+import com.platformer.escape_beyond.utils.SpriteVariantCache;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the images used by the game, keyed by resource path and the size they are drawn at.
+ * <p>
+ * Images requested with a size are decoded at that size (see {@link SpriteVariantCache}) rather than at
+ * full resolution. Each image is decoded once and shared by every node that shows it. Images in use are reference
+ * counted; once an image is no longer referenced it moves to a small least-recently-used pool, so
+ * that restarting a level or switching screens does not decode it again, and the oldest unused
+ * images are dropped when the pool is full.
+ * <p>
+ * Images acquired while a level is built are recorded and released together by {@link #releaseLevel()}.
+ * The cache is shared with the level loading thread, so its public methods are synchronized.
+ * Lookups are counted as hits or misses in the {@link MetricsManager}. In-game tiles are drawn from the
+ * {@link com.platformer.escape_beyond.view.SpriteAtlas} and never reach this cache, so these metrics only describe
+ * the images loaded outside the atlas: the player sprite and entities missing from the atlas.
+ */
+public class TextureManager {
+
+    // This is the singleton-instance
+    private static TextureManager instance;
+
+    private static final int MAX_IDLE_TEXTURES = 16; // Most unused images kept decoded
+
+    private final HashMap<String, Image> textures = new HashMap<>(); // Images in use, by texture key
+    private final HashMap<String, Integer> refCounts = new HashMap<>(); // Number of holders of each image in use, by texture key
+    private final HashMap<String, Integer> levelRefCounts = new HashMap<>(); // References held by the current level
+    private final LinkedHashMap<String, Image> idleTextures = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MAX_IDLE_TEXTURES;
+        }
+    }; // Unused images, least recently used first
+
+    private final Counter hits; // Lookups served by a decoded image
+    private final Counter misses; // Lookups that decoded the image
+
+    /**
+     * Private constructor to enforce the Singleton pattern. Registers the metrics of the cache.
+     */
+    private TextureManager() {
+        MetricsManager metrics = MetricsManager.getInstance();
+        String name = "escape_beyond_texture_fallback_requests_total";
+        String help = "Lookups of images loaded outside the sprite atlas (player sprite and non-atlas entities), by whether the image was already decoded.";
+        hits = metrics.counter(name, help, "result", "hit");
+        misses = metrics.counter(name, help, "result", "miss");
+        metrics.gauge("escape_beyond_texture_fallback_hit_ratio", "Share of lookups of images outside the sprite atlas served without decoding.", () -> {
+            double total = hits.get() + misses.get();
+            return total == 0 ? 0 : hits.get() / total;
+        });
+    }
+
+    /**
+     * Returns the singleton instance of {@code TextureManager}, creating it on first use.
+     *
+     * @return The singleton instance of {@code TextureManager}.
+     */
+    public static synchronized TextureManager getInstance() {
+        if (instance == null) {
+            instance = new TextureManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the full-size image at the given resource path and holds a reference to it until {@link #release(String)}.
+     *
+     * @param url The resource path of the image.
+     * @return The shared {@code Image}.
+     */
+    public synchronized Image acquire(String url) {
+        return acquireTexture(url, 0, 0);
+    }
+
+    /**
+     * Returns the image at the given resource path scaled to the given size, and holds a reference to it
+     * until {@link #release(String, int, int)}.
+     *
+     * @param url    The resource path of the image.
+     * @param width  The width the image is drawn at.
+     * @param height The height the image is drawn at.
+     * @return The shared {@code Image}.
+     */
+    public synchronized Image acquire(String url, int width, int height) {
+        return acquireTexture(url, width, height);
+    }
+
+    /**
+     * Drops a reference taken by {@link #acquire(String)}. The image becomes idle once no references are left.
+     *
+     * @param url The resource path of the image.
+     */
+    public synchronized void release(String url) {
+        releaseTexture(getKey(url, 0, 0));
+    }
+
+    /**
+     * Drops a reference taken by {@link #acquire(String, int, int)}.
+     *
+     * @param url    The resource path of the image.
+     * @param width  The width the image was requested at.
+     * @param height The height the image was requested at.
+     */
+    public synchronized void release(String url, int width, int height) {
+        releaseTexture(getKey(url, width, height));
+    }
+
+    /**
+     * Returns the full-size image at the given resource path for the current level.
+     * <p>
+     * The reference is released by {@link #releaseLevel()}.
+     *
+     * @param url The resource path of the image.
+     * @return The shared {@code Image}.
+     */
+    public synchronized Image acquireForLevel(String url) {
+        return acquireForLevel(url, 0, 0);
+    }
+
+    /**
+     * Returns the image at the given resource path scaled to the given size, for the current level.
+     * <p>
+     * The reference is released by {@link #releaseLevel()}.
+     *
+     * @param url    The resource path of the image.
+     * @param width  The width the image is drawn at.
+     * @param height The height the image is drawn at.
+     * @return The shared {@code Image}.
+     */
+    public synchronized Image acquireForLevel(String url, int width, int height) {
+        levelRefCounts.merge(getKey(url, width, height), 1, Integer::sum);
+        return acquireTexture(url, width, height);
+    }
+
+    /**
+     * Releases every reference taken by {@link #acquireForLevel} since the last call.
+     * <p>
+     * Called when a level is torn down.
+     */
+    public synchronized void releaseLevel() {
+        for (Map.Entry<String, Integer> entry : levelRefCounts.entrySet()) {
+            for (int k = 0; k < entry.getValue(); k++) {
+                releaseTexture(entry.getKey());
+            }
+        }
+        levelRefCounts.clear();
+    }
+
+    /**
+     * Returns the image at the given resource path scaled to the given size, without holding a reference to it.
+     * <p>
+     * Meant for one-off screens; the image stays in the idle pool until it is evicted.
+     *
+     * @param url    The resource path of the image.
+     * @param width  The width the image is drawn at.
+     * @param height The height the image is drawn at.
+     * @return The shared {@code Image}.
+     */
+    public synchronized Image get(String url, int width, int height) {
+        String key = getKey(url, width, height);
+        Image image = textures.get(key);
+        if (image == null) {
+            image = idleTextures.get(key);
+            if (image == null) {
+                image = load(url, width, height);
+                idleTextures.put(key, image);
+                return image;
+            }
+        }
+        hits.inc();
+        return image;
+    }
+
+    /**
+     * Looks up or loads an image and takes a reference to it.
+     */
+    private Image acquireTexture(String url, int width, int height) {
+        String key = getKey(url, width, height);
+        Image image = textures.get(key);
+        if (image == null) {
+            image = idleTextures.remove(key);
+            if (image == null) {
+                image = load(url, width, height);
+            } else {
+                hits.inc();
+            }
+            textures.put(key, image);
+        } else {
+            hits.inc();
+        }
+        refCounts.merge(key, 1, Integer::sum);
+        return image;
+    }
+
+    /**
+     * Drops a reference to an image, moving it to the idle pool once no references are left.
+     */
+    private void releaseTexture(String key) {
+        Integer count = refCounts.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            refCounts.put(key, count - 1);
+        } else {
+            refCounts.remove(key);
+            idleTextures.put(key, textures.remove(key));
+        }
+    }
+
+    /**
+     * Builds the cache key of an image; a size of 0 stands for the full-size image.
+     */
+    private static String getKey(String url, int width, int height) {
+        return width > 0 && height > 0 ? url + "@" + width + "x" + height : url;
+    }
+
+    /**
+     * Decodes the image at the given resource path, at the requested size if one is given.
+     */
+    private Image load(String url, int width, int height) {
+        misses.inc();
+        if (width > 0 && height > 0) {
+            return SpriteVariantCache.load(url, width, height);
+        }
+        return new Image(Objects.requireNonNull(Main.class.getResourceAsStream(url), "Image not found: " + url));
+    }
+}
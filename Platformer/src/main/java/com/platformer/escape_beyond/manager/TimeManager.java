@@ -1,12 +1,14 @@
 package com.platformer.escape_beyond.manager;
 
 import com.platformer.escape_beyond.controller.PlayerController;
-import com.platformer.escape_beyond.model.entity.node.movable.MovableNode;
+import com.platformer.escape_beyond.metrics.Histogram;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import com.platformer.escape_beyond.view.ProfilerOverlay;
 import javafx.animation.AnimationTimer;
 import javafx.scene.control.Label;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Manages game time-related operations, including animation timers for the game loop and countdown timers for the UI.
@@ -18,14 +20,32 @@ public class TimeManager {
     // This is the singleton-instance
     private static TimeManager instance;
 
+    private static final long TICK_NANOS = 1_000_000_000L / 60; // Duration of a simulation tick (60 ticks per second)
+    private static final int MAX_TICKS_PER_FRAME = 5; // Most ticks run in a single frame when catching up
+    private static final long MAX_FRAME_NANOS = 250_000_000L; // Longest frame time simulated, e.g. after a stall
+
     private AnimationTimer timer; // Timer responsible for the game loop
     public AnimationTimer timerLabelTimer; // Timer responsible for countdown or timer label updates
 
     // Label for the timer display
     private final Label timerLabel = new Label();
 
-    // List of movable nodes in the game
-    private final List<MovableNode> movableNodes = DataManager.getInstance().getMovableNodes();
+    // Overlay showing the frame rate and the frame times, refreshed by the game loop
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+
+    // Bodies and movers of the level, stepped every tick
+    private final PhysicsWorld physicsWorld = DataManager.getInstance().getPhysicsWorld();
+    private final MoverSystem moverSystem = DataManager.getInstance().getMoverSystem();
+
+    // Queue of the game events posted during a tick
+    private final EventManager eventManager = EventManager.getInstance();
+
+    // Records the time spent in each phase of a frame
+    private final ProfilerManager profiler = ProfilerManager.getInstance();
+
+    // Distribution of the time between frames, exported with the other metrics
+    private final Histogram frameTime = MetricsManager.getInstance().histogram("escape_beyond_frame_seconds",
+            "Time between two frames of the game loop.", MetricsManager.FRAME_BUCKETS);
 
     /**
      * Returns the singleton instance of the {@code TimeManager}.
@@ -45,30 +65,104 @@ public class TimeManager {
     /**
      * Initializes the game loop timer.
      * <p>
-     * The timer periodically calls the update logic for the player and all movable nodes in the game.
+     * The simulation advances in fixed ticks of {@link #TICK_NANOS}, independent of the display's refresh rate.
+     * Each frame runs as many ticks as the elapsed time requires, up to {@link #MAX_TICKS_PER_FRAME}, and then
+     * renders the scene interpolated between the last two ticks. The game events posted during a tick are handled
+     * at the end of that tick, once every entity has been updated; if one of them ends the game, no further tick runs.
+     * The phases of every frame are timed by the {@link ProfilerManager}.
      * If an {@code IOException} occurs during updates, a {@code RuntimeException} is thrown.
      */
     public void init() {
         timer = new AnimationTimer() {
+            private long lastFrameTime; // Timestamp of the previous frame, in nanoseconds
+            private long accumulator; // Simulation time not yet consumed by ticks, in nanoseconds
+            private boolean running; // Whether the timer is started; ticks stop as soon as the game ends
+
+            @Override
+            public void start() {
+                lastFrameTime = -1; // the time spent stopped (e.g. paused) is not simulated
+                accumulator = 0;
+                running = true;
+                profiler.resetFrameClock();
+                super.start();
+            }
+
+            @Override
+            public void stop() {
+                running = false;
+                super.stop();
+            }
+
             @Override
             public void handle(long now) {
                 PlayerController playerController = DataManager.getInstance().getPlayerController();
                 if (playerController == null) {
-                    System.err.println("PlayerController is null in AnimationTimer!");
+                    LogManager.getInstance().error("player_controller_missing");
                     stop();
                     return;
-                }try {
-                    DataManager.getInstance().getPlayerController().update();
-                    for (MovableNode movableNode : movableNodes) {
-                        movableNode.step_move();
+                }
+                if (lastFrameTime < 0) {
+                    lastFrameTime = now - TICK_NANOS; // run one tick on the first frame
+                }
+                accumulator += Math.min(now - lastFrameTime, MAX_FRAME_NANOS);
+                lastFrameTime = now;
+
+                try {
+                    int ticks = 0;
+                    while (accumulator >= TICK_NANOS && ticks < MAX_TICKS_PER_FRAME && running) {
+                        long time = profiler.mark();
+                        playerController.savePreviousState();
+                        profiler.lap(ProfilerManager.Phase.PHYSICS, time); // part of updating the player
+                        playerController.update(); // times its input, physics and collision phases
+                        time = profiler.mark();
+                        moverSystem.step(physicsWorld);
+                        time = profiler.lap(ProfilerManager.Phase.MOVERS, time);
+                        eventManager.drain();
+                        profiler.lap(ProfilerManager.Phase.EVENTS, time);
+                        profiler.tick();
+                        accumulator -= TICK_NANOS;
+                        ticks++;
                     }
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
+                if (!running) {
+                    endFrame(now);
+                    return; // the game ended during a tick
+                }
+                if (accumulator >= TICK_NANOS) {
+                    accumulator %= TICK_NANOS; // too far behind, drop the backlog instead of spiralling
+                }
+                long time = profiler.mark();
+                playerController.render((double) accumulator / TICK_NANOS);
+                profiler.lap(ProfilerManager.Phase.RENDER, time);
+                endFrame(now);
+            }
+
+            /**
+             * Records the frame with the entity counts of the level, refreshes the profiler overlay and
+             * adds the frame time to its histogram.
+             */
+            private void endFrame(long now) {
+                profiler.endFrame(now, physicsWorld.size(), moverSystem.size(), DataManager.getInstance().getWorldView().getResidentNodeCount());
+                profilerOverlay.refresh();
+                long interval = profiler.getLastFrameInterval();
+                if (interval > 0) {
+                    frameTime.observe(interval / 1e9);
+                }
             }
         };
     }
 
+    /**
+     * Retrieves the overlay showing the frame profiler.
+     *
+     * @return The {@code ProfilerOverlay} refreshed by the game loop.
+     */
+    public ProfilerOverlay getProfilerOverlay() {
+        return profilerOverlay;
+    }
+
     /**
      * Retrieves the game loop timer.
      *
@@ -0,0 +1,56 @@
+package com.platformer.escape_beyond.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value that only goes up, such as the number of deaths or of texture cache misses.
+ * <p>
+ * A counter either counts the increments it receives, or reads a running total kept elsewhere,
+ * such as the collection time reported by the JVM.
+ */
+public class Counter extends Metric {
+    private final DoubleAdder count = new DoubleAdder(); // Sum of the increments
+    private final DoubleSupplier source; // Where the total is read from, or null to use the increments
+
+    /**
+     * Constructs a counter.
+     *
+     * @param labels The label pairs of the counter, already formatted.
+     * @param source The running total to read, or {@code null} for a counter updated with {@link #inc()}.
+     */
+    public Counter(String labels, DoubleSupplier source) {
+        super(labels);
+        this.source = source;
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void inc() {
+        count.add(1);
+    }
+
+    /**
+     * Adds to the counter.
+     *
+     * @param amount The amount to add (must not be negative).
+     */
+    public void add(double amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return The total.
+     */
+    public double get() {
+        return source != null ? source.getAsDouble() : count.sum();
+    }
+
+    @Override
+    public void write(String name, StringBuilder out) {
+        writeSample(out, name, null, get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.platformer.escape_beyond.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value that goes up and down, such as the number of bodies in the level or the texture cache hit ratio.
+ * <p>
+ * The value is read when the metrics are exported, so a gauge costs nothing while the game runs.
+ */
+public class Gauge extends Metric {
+    private final DoubleSupplier source; // Reads the current value
+
+    /**
+     * Constructs a gauge.
+     *
+     * @param labels The label pairs of the gauge, already formatted.
+     * @param source Reads the current value; called from the exporting thread.
+     */
+    public Gauge(String labels, DoubleSupplier source) {
+        super(labels);
+        this.source = source;
+    }
+
+    @Override
+    public void write(String name, StringBuilder out) {
+        writeSample(out, name, null, source.getAsDouble());
+    }
+}
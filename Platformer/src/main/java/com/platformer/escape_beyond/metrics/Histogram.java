@@ -0,0 +1,55 @@
+package com.platformer.escape_beyond.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * The distribution of a measured value, such as the frame time or the time to win a level, over fixed buckets.
+ * <p>
+ * Observing a value finds its bucket among a handful of upper bounds and increments one counter, so it
+ * allocates nothing and can be done every frame.
+ */
+public class Histogram extends Metric {
+    private final double[] bounds; // Upper bounds of the buckets, in increasing order
+    private final AtomicLongArray counts; // Observations per bucket, the last one above every bound
+    private final DoubleAdder sum = new DoubleAdder(); // Sum of the observed values
+
+    /**
+     * Constructs a histogram.
+     *
+     * @param labels The label pairs of the histogram, already formatted.
+     * @param bounds The upper bounds of the buckets, in increasing order.
+     */
+    public Histogram(String labels, double[] bounds) {
+        super(labels);
+        this.bounds = bounds.clone();
+        this.counts = new AtomicLongArray(bounds.length + 1);
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The observed value.
+     */
+    public void observe(double value) {
+        int bucket = 0;
+        while (bucket < bounds.length && value > bounds[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+        sum.add(value);
+    }
+
+    @Override
+    public void write(String name, StringBuilder out) {
+        long cumulative = 0;
+        for (int bucket = 0; bucket < bounds.length; bucket++) {
+            cumulative += counts.get(bucket);
+            writeSample(out, name + "_bucket", "le=\"" + formatValue(bounds[bucket]) + "\"", cumulative);
+        }
+        cumulative += counts.get(bounds.length);
+        writeSample(out, name + "_bucket", "le=\"+Inf\"", cumulative);
+        writeSample(out, name + "_sum", null, sum.sum());
+        writeSample(out, name + "_count", null, cumulative);
+    }
+}
@@ -0,0 +1,65 @@
+package com.platformer.escape_beyond.metrics;
+
+/**
+ * A metric with a fixed set of labels, written in the Prometheus text exposition format.
+ * <p>
+ * Metrics are created by the {@link com.platformer.escape_beyond.manager.MetricsManager}, which groups the metrics
+ * sharing a name into one family. Updating a metric is lock-free, so it can be done from the game loop while the
+ * metrics are exported from another thread.
+ */
+public abstract class Metric {
+    private final String labels; // The label pairs, e.g. level="1", or an empty string
+
+    /**
+     * Constructs a metric.
+     *
+     * @param labels The label pairs of the metric, already formatted, e.g. {@code level="1",cause="fell_out"}.
+     */
+    protected Metric(String labels) {
+        this.labels = labels;
+    }
+
+    /**
+     * Appends the samples of this metric.
+     *
+     * @param name The name of the metric family.
+     * @param out  The text being exported.
+     */
+    public abstract void write(String name, StringBuilder out);
+
+    /**
+     * Appends one sample line.
+     *
+     * @param out        The text being exported.
+     * @param name       The sample name.
+     * @param extraLabel An additional label pair such as {@code le="0.5"}, or {@code null}.
+     * @param value      The sample value.
+     */
+    protected void writeSample(StringBuilder out, String name, String extraLabel, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.append('{').append(labels);
+            if (extraLabel != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    /**
+     * Formats a sample value, writing whole numbers without a fraction.
+     *
+     * @param value The value.
+     * @return The value as written in the exposition format.
+     */
+    protected static String formatValue(double value) {
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
@@ -1,114 +1,112 @@
 package com.platformer.escape_beyond.model.entity;
 
-import java.util.ArrayList;
+import com.platformer.escape_beyond.Main;
+import com.platformer.escape_beyond.utils.LevelParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Represents dynamic loading of level data using a Factory Method Pattern.
+ * Represents the data of one level, loaded from a level file using a Factory Method Pattern.
  * <p>
- * LevelDataFactory provides a dynamic approach to initialize and retrieve
- * level data such as layouts, supplies, and movable object ranges.
+ * Levels are stored as text files under {@code /levels/} (see {@link LevelParser} for the format).
+ * A level is only parsed the first time it is requested and the parsed level is cached, so
+ * levels that are never played cost nothing and restarting a level does not parse it again.
  */
 public class LevelData {
-    private final List<String[]> levels;                // Stores all level layouts
-    private final List<Integer> levelSupplies;          // Stores the number of supplies in each level
-    private final List<List<int[]>> levelMovableObjectRanges; // Stores movable object ranges for each level
+    private static final String LEVEL_DIRECTORY = "/levels/"; // Where the level files are stored
+    private static final HashMap<Integer, LevelData> cache = new HashMap<>(); // Parsed levels, by level index
+
+    private final String[] rows; // The level layout, one string per row of tiles
+    private final int supplies; // The number of supplies in the level
+    private final List<int[]> movableObjectRanges; // Travel ranges of the movable objects, in grid order
+    private final String[] palette; // Entity type placed for each grid character, indexed by character
 
     /**
-     * Private constructor to prevent direct instantiation.
-     * Use the factory method {@code createLevelData()} to create an instance.
+     * Constructs the data of a level. Use the factory method {@code getLevel(int)} to obtain an instance.
+     *
+     * @param rows                The level layout, one string per row of tiles.
+     * @param supplies            The number of supplies in the level.
+     * @param movableObjectRanges The travel ranges of the movable objects, in grid order.
+     * @param palette             The entity type of each grid character, indexed by character.
      */
-    private LevelData(List<String[]> levels, List<Integer> levelSupplies, List<List<int[]>> levelMovableObjectRanges) {
-        this.levels = levels;
-        this.levelSupplies = levelSupplies;
-        this.levelMovableObjectRanges = levelMovableObjectRanges;
+    public LevelData(String[] rows, int supplies, List<int[]> movableObjectRanges, String[] palette) {
+        this.rows = rows;
+        this.supplies = supplies;
+        this.movableObjectRanges = movableObjectRanges;
+        this.palette = palette;
     }
 
     /**
-     * Factory method to create and initialize level data dynamically.
+     * Factory method returning the data of a level, parsing its file on first use.
      *
-     * @return A fully initialized {@code LevelData} object.
+     * @param index The index of the level (1 = Glacier, 2 = Desert).
+     * @return The parsed {@code LevelData}.
      */
-    public static LevelData createLevelData() {
-        // Initialize levels
-        List<String[]> levels = new ArrayList<>();
-        levels.add(new String[] {
-                "0000000000000000000000000000000000000000000000000000000000000000000",
-                "0000000000000000000000000000600000111000000000000000000000000000000",
-                "0000000000000000000000000000100001111100000000000000000000000000000",
-                "0000000000000000000000000000000000000000000000000000000000000000000",
-                "0000000000000000000060000000000000000001110000000000000000000000000",
-                "0000600000000000000030000000000000000011111000700000000700000000000",
-                "0000111000000000000030000000000000000000000000300000001110000000000",
-                "0000000000000000000330000000000000000000000000300000000000000000000",
-                "0000000000000300001110000000000200000000000033330000000000000000000",
-                "0000000000000330000000000000000000000000000033330000000000300000000",
-                "0000000200003333000000002020700202000000000333330000000000300900000",
-                "1111000111111111114440001111100111111555000111110000055511111111111",
-        });
-        levels.add(new String[] {
-                "0000000000000000000000000000000000000000000000000000000000000000000",
-                "1111110000000007000000000000111100000800000000000000000000280000000",
-                "0000001100001111050000000000000001111100000000000000000011110000000",
-                "0000000000000000011100000000000000000000000000000000300000000000000",
-                "0700011000000000000090000000307000000090000000000011111000004000000",
-                "0111111100400000000000000000111100000000000000000000000000070000000",
-                "0000111100000000000000000000000000000000000000000000000000110000000",
-                "0600000000000020000000000000000000000000000003000001111100000000000",
-                "0111111000011111005000020000000000005800000001110000000000000000000",
-                "0000000000000000111111110000006000011111111000000000000000000000000",
-                "0000000000000000000000000011111100000000000000000000000723300a00000",
-                "0000000000000000000000000000000000000000000000000001111111111111111",
-        });
-
-        // Initialize supplies for each level
-        List<Integer> levelSupplies = new ArrayList<>();
-        levelSupplies.add(6);  // Supplies for level 1
-        levelSupplies.add(10); // Supplies for level 2
-
-        // Initialize movable object ranges for each level
-        List<List<int[]>> levelMovableObjectRanges = new ArrayList<>();
-        List<int[]> level1Ranges = new ArrayList<>();
-        levelMovableObjectRanges.add(level1Ranges); // Level 1 has no movable ranges
+    public static synchronized LevelData getLevel(int index) {
+        LevelData levelData = cache.get(index);
+        if (levelData == null) {
+            String url = LEVEL_DIRECTORY + "level" + index + ".txt";
+            try (InputStream stream = Main.class.getResourceAsStream(url)) {
+                if (stream == null) {
+                    throw new IllegalStateException("Level not found: " + url);
+                }
+                levelData = LevelParser.parse(stream);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read level: " + url, e);
+            }
+            cache.put(index, levelData);
+        }
+        return levelData;
+    }
 
-        List<int[]> level2Ranges = new ArrayList<>();
-        level2Ranges.add(new int[]{0, 120});
-        level2Ranges.add(new int[]{0, 160});
-        level2Ranges.add(new int[]{0, 320});
-        level2Ranges.add(new int[]{0, 240});
-        level2Ranges.add(new int[]{0, 160});
-        level2Ranges.add(new int[]{0, 160});
-        level2Ranges.add(new int[]{0, 160});
-        level2Ranges.add(new int[]{0, 160});
-        levelMovableObjectRanges.add(level2Ranges);
+    /**
+     * Gets the level layout.
+     *
+     * @return The rows of the level, each character standing for one tile.
+     */
+    public String[] getRows() {
+        return rows;
+    }
 
-        return new LevelData(levels, levelSupplies, levelMovableObjectRanges);
+    /**
+     * Gets the number of supplies in the level.
+     *
+     * @return The supply count.
+     */
+    public int getSupplies() {
+        return supplies;
     }
 
     /**
-     * Gets all levels.
+     * Gets the travel ranges of the movable objects, in the order they appear in the grid.
      *
-     * @return A list of level layouts.
+     * @return A list of {@code [start, end]} ranges.
      */
-    public List<String[]> getLevels() {
-        return levels;
+    public List<int[]> getMovableObjectRanges() {
+        return movableObjectRanges;
     }
 
     /**
-     * Gets the supplies for each level.
+     * Gets the entity type placed for a grid character.
      *
-     * @return A list of supply counts for each level.
+     * @param c The grid character.
+     * @return The entity type, or {@code null} for empty space.
      */
-    public List<Integer> getLevelSupplies() {
-        return levelSupplies;
+    public String getEntityType(char c) {
+        return c < palette.length ? palette[c] : null;
     }
 
     /**
-     * Gets the movable object ranges for each level.
+     * Gets every entity type used by the level.
      *
-     * @return A list of movable object ranges for each level.
+     * @return The distinct entity types of the palette.
      */
-    public List<List<int[]>> getLevelMovableObjectRanges() {
-        return levelMovableObjectRanges;
+    public List<String> getEntityTypes() {
+        return Arrays.stream(palette).filter(Objects::nonNull).distinct().toList();
     }
 }
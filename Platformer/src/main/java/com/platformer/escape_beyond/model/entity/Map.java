@@ -76,10 +76,33 @@ public class Map {
      *         Defaults to the glacier map's background if the index is invalid.
      */
     public static String getRandomMapBackground(int index) {
+        String[] backgrounds = getMapBackgrounds(index);
+        return backgrounds[RandomNumberGenerator.getRandomInt(1, backgrounds.length) - 1];
+    }
+
+    /**
+     * Lists every background image that can be picked for a map.
+     *
+     * @param index The index of the map (1, 2, or 3).
+     * @return The URLs of the map's background images.
+     *         Defaults to the glacier map's first background if the index is invalid.
+     */
+    public static String[] getMapBackgrounds(int index) {
         return switch (index) {
-            case MAP_1_INDEX -> MAP_DICTIONARY + MAP_1_NAME + RandomNumberGenerator.getRandomInt(1, 2) + ".jpg";
-            case MAP_2_INDEX -> MAP_DICTIONARY + MAP_2_NAME + RandomNumberGenerator.getRandomInt(1, 3) + ".jpg";
-            default -> MAP_DICTIONARY + MAP_1_NAME + RandomNumberGenerator.getRandomInt(1, 1) + ".jpg";
+            case MAP_1_INDEX -> getBackgrounds(MAP_1_NAME, 2);
+            case MAP_2_INDEX -> getBackgrounds(MAP_2_NAME, 3);
+            default -> getBackgrounds(MAP_1_NAME, 1);
         };
     }
+
+    /**
+     * Builds the URLs {@code map_name1.jpg} to {@code map_name<count>.jpg}.
+     */
+    private static String[] getBackgrounds(String mapName, int count) {
+        String[] backgrounds = new String[count];
+        for (int k = 0; k < count; k++) {
+            backgrounds[k] = MAP_DICTIONARY + mapName + (k + 1) + ".jpg";
+        }
+        return backgrounds;
+    }
 }
@@ -1,5 +1,6 @@
 package com.platformer.escape_beyond.model.entity.block;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
 /**
@@ -13,6 +14,7 @@ public abstract class Entity {
     public int w; // The width of the entity.
     public int h; // The height of the entity.
     public Image image; // The image representing the entity visually.
+    public Rectangle2D viewport; // The part of the image showing the entity, or null for the whole image.
 
     /**
      * Constructor for abstract class Entity.
@@ -52,6 +54,10 @@ public abstract class Entity {
         return image;
     }
 
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+
     // Setters
     public void setX(int x) {
         this.x = x;
@@ -72,4 +78,8 @@ public abstract class Entity {
     public void setImage(Image image) {
         this.image = image;
     }
+
+    public void setViewport(Rectangle2D viewport) {
+        this.viewport = viewport;
+    }
 }
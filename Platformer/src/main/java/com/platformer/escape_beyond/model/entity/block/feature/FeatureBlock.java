@@ -35,4 +35,18 @@ public class FeatureBlock extends Entity {
         super(x, y, w, h, image);
         this.featureType = featureType;
     }
+
+    /**
+     * Returns the factor applied to the player's speed while standing on a feature block.
+     *
+     * @param featureType The type of the feature block (e.g., ICE_BLOCK, SNOW_BLOCK).
+     * @return The speed factor: 2 on ice, 0.5 on snow, 1 otherwise.
+     */
+    public static double getSpeedFactor(String featureType) {
+        return switch (featureType) {
+            case ICE_BLOCK -> 2;
+            case SNOW_BLOCK -> 0.5;
+            default -> 1;
+        };
+    }
 }
@@ -1,7 +1,8 @@
 package com.platformer.escape_beyond.model.game;
 
+import com.platformer.escape_beyond.manager.AtlasManager;
 import com.platformer.escape_beyond.manager.DataManager;
-import com.platformer.escape_beyond.Main;
+import com.platformer.escape_beyond.manager.TextureManager;
 import com.platformer.escape_beyond.model.entity.block.*;
 import com.platformer.escape_beyond.model.entity.block.destination.DestinationBlock;
 import com.platformer.escape_beyond.model.entity.block.enemy.FireDragonBlock;
@@ -12,10 +13,10 @@ import com.platformer.escape_beyond.model.entity.block.platform.FlyingCarpetBloc
 import com.platformer.escape_beyond.model.entity.block.platform.PlatformBlock;
 import com.platformer.escape_beyond.model.entity.block.player.PlayerBlock;
 import com.platformer.escape_beyond.model.entity.block.supply.SupplyBlock;
+import com.platformer.escape_beyond.view.SpriteAtlas;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
-import java.util.Objects;
-
 /**
  * Utility class for creating game entities dynamically.
  * <p>
@@ -59,6 +60,9 @@ public class EntityCreator {
     /**
      * Creates an entity object with a specified tag.
      * The tag differentiates variations of the same entity type.
+     * <p>
+     * When the sprite of the entity is packed in the atlas of the current map, the entity shows the atlas
+     * image through a viewport; otherwise its own image is loaded.
      *
      * @param entityType The type of entity.
      * @param x          The x-coordinate of the entity.
@@ -69,40 +73,61 @@ public class EntityCreator {
      * @return The created {@code Entity}.
      */
     public static Entity createEntity(String entityType, int x, int y, int w, int h, int tag) {
-        return switch (entityType) {
-            case PLAYER_ -> new PlayerBlock(x, y, w, h, loadImageView(entityType, tag));
+        SpriteAtlas atlas = AtlasManager.getInstance().getAtlas(DataManager.getInstance().getGameState().map.index);
+        Rectangle2D region = atlas.getRegion(entityType);
+        Image image = region != null ? atlas.getImage() : loadImageView(entityType, tag, w, h);
+
+        Entity entity = switch (entityType) {
+            case PLAYER_ -> new PlayerBlock(x, y, w, h, image);
             // supply blocks
-            case BOTTLE_WATER_ -> new SupplyBlock(x, y, w, h, SupplyBlock.BOTTLE_WATER_, loadImageView(entityType, tag));
-            case CAN_ -> new SupplyBlock(x, y, w, h, SupplyBlock.CAN_, loadImageView(entityType, tag));
-            case COOKIE_ -> new SupplyBlock(x, y, w, h, SupplyBlock.COOKIE_, loadImageView(entityType, tag));
+            case BOTTLE_WATER_ -> new SupplyBlock(x, y, w, h, SupplyBlock.BOTTLE_WATER_, image);
+            case CAN_ -> new SupplyBlock(x, y, w, h, SupplyBlock.CAN_, image);
+            case COOKIE_ -> new SupplyBlock(x, y, w, h, SupplyBlock.COOKIE_, image);
             // platform blocks
-            case GLACIER_PLATFORM_BLOCK_, DESERT_PLATFORM_BLOCK_ -> new PlatformBlock(x, y, w, h, loadImageView(entityType, tag));
+            case GLACIER_PLATFORM_BLOCK_, DESERT_PLATFORM_BLOCK_ -> new PlatformBlock(x, y, w, h, image);
             // obstacle blocks
-            case GLACIER_SMALL_ICE_BLOCK_, GLACIER_LARGE_ICE_BLOCK_, DESERT_STONE_BLOCK_, DESERT_CACTUS_BLOCK_ -> new ObstacleBlock(x, y, w, h, loadImageView(entityType, tag));
+            case GLACIER_SMALL_ICE_BLOCK_, GLACIER_LARGE_ICE_BLOCK_, DESERT_STONE_BLOCK_, DESERT_CACTUS_BLOCK_ -> new ObstacleBlock(x, y, w, h, image);
             // feature blocks
-            case GLACIER_ICE_BLOCK_ -> new FeatureBlock(x, y, w, h, FeatureBlock.ICE_BLOCK, loadImageView(entityType, tag));
-            case GLACIER_SNOW_BLOCK_ -> new FeatureBlock(x, y, w, h, FeatureBlock.SNOW_BLOCK, loadImageView(entityType, tag));
+            case GLACIER_ICE_BLOCK_ -> new FeatureBlock(x, y, w, h, FeatureBlock.ICE_BLOCK, image);
+            case GLACIER_SNOW_BLOCK_ -> new FeatureBlock(x, y, w, h, FeatureBlock.SNOW_BLOCK, image);
             // destination
-            case IGLOO_, OASIS_ -> new DestinationBlock(x, y, w, h, DataManager.getInstance().getGameState().map.index, loadImageView(entityType, tag));
+            case IGLOO_, OASIS_ -> new DestinationBlock(x, y, w, h, DataManager.getInstance().getGameState().map.index, image);
             // enemy blocks
-            case FIRE_DRAGON_ -> new FireDragonBlock(x, y, w, h, loadImageView(entityType, tag), DataManager.getInstance().getRangeIterator().next());
-            case MUMMY_ -> new MummyBlock(x, y, w, h, loadImageView(entityType, tag), DataManager.getInstance().getRangeIterator().next());
+            case FIRE_DRAGON_ -> new FireDragonBlock(x, y, w, h, image, DataManager.getInstance().getRangeIterator().next());
+            case MUMMY_ -> new MummyBlock(x, y, w, h, image, DataManager.getInstance().getRangeIterator().next());
             // moving object blocks
-            case FLYING_CARPET_ -> new FlyingCarpetBlock(x, y, w, h, loadImageView(entityType, tag), DataManager.getInstance().getRangeIterator().next());
+            case FLYING_CARPET_ -> new FlyingCarpetBlock(x, y, w, h, image, DataManager.getInstance().getRangeIterator().next());
 
             default -> throw new IllegalStateException("Unexpected value: " + entityType);
         };
+        entity.setViewport(region);
+        return entity;
     }
 
     /**
-     * Loads an image for the specified entity type and tag.
+     * Loads an image for the specified entity type and tag, decoded at the size it is drawn at.
+     * <p>
+     * The image is shared through the {@link TextureManager} and held until the level is released.
      *
      * @param entityType The type of entity.
      * @param tag        The variation tag for the entity.
+     * @param w          The width the entity is drawn at.
+     * @param h          The height the entity is drawn at.
      * @return The {@code Image} corresponding to the entity type and tag.
      */
-    public static Image loadImageView(String entityType, int tag) {
-        String url = switch (entityType) {
+    public static Image loadImageView(String entityType, int tag, int w, int h) {
+        return TextureManager.getInstance().acquireForLevel(getImageUrl(entityType, tag), w, h);
+    }
+
+    /**
+     * Returns the resource path of the image for the specified entity type and tag.
+     *
+     * @param entityType The type of entity.
+     * @param tag        The variation tag for the entity.
+     * @return The resource path of the entity's image.
+     */
+    public static String getImageUrl(String entityType, int tag) {
+        return switch (entityType) {
             // Player
             case PLAYER_ -> "/images/7_Option/character/Character" + tag + ".png";
 
@@ -137,7 +162,5 @@ public class EntityCreator {
 
             default -> throw new IllegalStateException("Unexpected value: " + entityType);
         };
-
-        return new Image(Objects.requireNonNull(Main.class.getResourceAsStream(url), "Image not found: " + url));
     }
 }
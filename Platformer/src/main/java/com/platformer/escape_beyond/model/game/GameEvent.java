@@ -0,0 +1,15 @@
+package com.platformer.escape_beyond.model.game;
+
+/**
+ * The things that can happen during a tick that the rest of the game reacts to.
+ * <p>
+ * Events are posted to the {@link com.platformer.escape_beyond.manager.EventManager} by the
+ * simulation and handled once the tick is over.
+ */
+public enum GameEvent {
+    SUPPLY_COLLECTED, // The player picked up a supply; the value is the supply's body id
+    ENEMY_HIT, // The player touched an enemy; the value is the enemy's body id
+    FELL_OUT, // The player fell out of the level
+    GOAL_REACHED, // The player reached the destination; the value is the destination's body id
+    TIME_UP // The countdown ended; the value is the elapsed time in seconds
+}
@@ -32,6 +32,9 @@ public class GameState {
     /** The time spent by the player in the game (in seconds). */
     public int spentTime;
 
+    /** How the static tiles of a level are drawn; chosen at launch and kept across games. */
+    public RenderMode renderMode = RenderMode.fromSystemProperty();
+
     /**
      * Constructs a new {@code GameState} with default values.
      * <p>
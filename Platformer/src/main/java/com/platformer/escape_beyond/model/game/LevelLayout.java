@@ -0,0 +1,195 @@
+package com.platformer.escape_beyond.model.game;
+
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.entity.block.feature.FeatureBlock;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+
+import java.util.Iterator;
+
+/**
+ * The placement rules of the entities of a level: where each entity type sits in its tile, how large
+ * it is, and which body it gets in the {@link PhysicsWorld}.
+ * <p>
+ * Nothing here loads an image or creates a node. {@link EntitySelector} uses these rules to build the
+ * level shown on screen, and {@link #build(LevelData, PhysicsWorld, MoverSystem)} builds the same
+ * bodies and movers without any graphics, e.g. for a headless simulation.
+ */
+public final class LevelLayout {
+    // Constants for common dimensions
+    public static final int BLOCK_SIZE = 60;
+    private static final int LARGE_BLOCK_SIZE = 120;
+    private static final int SMALL_SUPPLY_SIZE = 20;
+    private static final int DESTINATION_WIDTH = 250;
+    private static final int DESTINATION_HEIGHT = 100;
+    private static final int SUPPLY_OFFSET_X = 20;
+    private static final int SUPPLY_OFFSET_Y = 40;
+    private static final int FLYING_CARPET_WIDTH = 200;
+    private static final int FLYING_CARPET_HEIGHT = 60;
+    private static final int IGLOO_OFFSET_Y = 30;
+    private static final int OASIS_OFFSET_Y = 20;
+    // Patrol speeds of the movers, in pixels per tick
+    private static final int FIRE_DRAGON_MOVING_VELOCITY = 1;
+    private static final int MUMMY_MOVING_VELOCITY = 1;
+    private static final int FLYING_CARPET_MOVING_VELOCITY = 1;
+
+    private LevelLayout() {
+    }
+
+    /**
+     * Returns the size an entity type is drawn and collided at.
+     *
+     * @param entityType The entity type (e.g., {@link EntityCreator#GLACIER_PLATFORM_BLOCK_}).
+     * @return The width and height of the entity.
+     */
+    public static int[] getSize(String entityType) {
+        return switch (entityType) {
+            case EntityCreator.GLACIER_LARGE_ICE_BLOCK_ -> new int[]{LARGE_BLOCK_SIZE, LARGE_BLOCK_SIZE};
+            case EntityCreator.BOTTLE_WATER_, EntityCreator.CAN_, EntityCreator.COOKIE_ -> new int[]{SMALL_SUPPLY_SIZE, SMALL_SUPPLY_SIZE};
+            case EntityCreator.FLYING_CARPET_ -> new int[]{FLYING_CARPET_WIDTH, FLYING_CARPET_HEIGHT};
+            case EntityCreator.IGLOO_, EntityCreator.OASIS_ -> new int[]{DESTINATION_WIDTH, DESTINATION_HEIGHT};
+            default -> new int[]{BLOCK_SIZE, BLOCK_SIZE};
+        };
+    }
+
+    /**
+     * Returns the bounds of an entity placed at a tile of the level grid.
+     * <p>
+     * A large ice block covers the tile and the one above it; supplies sit in the lower middle of their
+     * tile, and destinations stand on the row below theirs.
+     *
+     * @param entityType The entity type.
+     * @param j          The column index in the game map matrix.
+     * @param i          The row index in the game map matrix.
+     * @return The x, y, width and height of the entity.
+     */
+    public static int[] getBounds(String entityType, int j, int i) {
+        int[] size = getSize(entityType);
+        int x = switch (entityType) {
+            case EntityCreator.BOTTLE_WATER_, EntityCreator.CAN_, EntityCreator.COOKIE_ -> j * BLOCK_SIZE + SUPPLY_OFFSET_X;
+            default -> j * BLOCK_SIZE;
+        };
+        int y = switch (entityType) {
+            case EntityCreator.GLACIER_LARGE_ICE_BLOCK_ -> (i - 1) * BLOCK_SIZE;
+            case EntityCreator.BOTTLE_WATER_, EntityCreator.CAN_, EntityCreator.COOKIE_ -> i * BLOCK_SIZE + SUPPLY_OFFSET_Y;
+            case EntityCreator.IGLOO_ -> (i - 1) * BLOCK_SIZE + IGLOO_OFFSET_Y;
+            case EntityCreator.OASIS_ -> (i - 1) * BLOCK_SIZE + OASIS_OFFSET_Y;
+            default -> i * BLOCK_SIZE;
+        };
+        return new int[]{x, y, size[0], size[1]};
+    }
+
+    /**
+     * Returns the kind flags of the body of an entity type.
+     *
+     * @param entityType The entity type.
+     * @return The {@link PhysicsWorld} kind flags of the body.
+     * @throws IllegalStateException if the entity type is unknown.
+     */
+    public static int getKinds(String entityType) {
+        return switch (entityType) {
+            // platform blocks, obstacles and the flying carpet
+            case EntityCreator.GLACIER_PLATFORM_BLOCK_, EntityCreator.DESERT_PLATFORM_BLOCK_,
+                 EntityCreator.GLACIER_LARGE_ICE_BLOCK_, EntityCreator.GLACIER_SMALL_ICE_BLOCK_,
+                 EntityCreator.DESERT_STONE_BLOCK_, EntityCreator.DESERT_CACTUS_BLOCK_,
+                 EntityCreator.FLYING_CARPET_ -> PhysicsWorld.SOLID;
+            // ice blocks changing the speed
+            case EntityCreator.GLACIER_ICE_BLOCK_, EntityCreator.GLACIER_SNOW_BLOCK_ -> PhysicsWorld.SOLID | PhysicsWorld.FEATURE;
+            // supplies
+            case EntityCreator.BOTTLE_WATER_, EntityCreator.CAN_, EntityCreator.COOKIE_ -> PhysicsWorld.PICKUP;
+            // enemies
+            case EntityCreator.FIRE_DRAGON_, EntityCreator.MUMMY_ -> PhysicsWorld.HAZARD;
+            // destinations
+            case EntityCreator.IGLOO_, EntityCreator.OASIS_ -> PhysicsWorld.GOAL;
+            default -> throw new IllegalStateException("Unexpected entity type: " + entityType);
+        };
+    }
+
+    /**
+     * Returns the patrol speed of an entity type.
+     *
+     * @param entityType The entity type.
+     * @return The distance the entity travels per tick, or 0 if it does not move.
+     */
+    public static int getMovingVelocity(String entityType) {
+        return switch (entityType) {
+            case EntityCreator.FIRE_DRAGON_ -> FIRE_DRAGON_MOVING_VELOCITY;
+            case EntityCreator.MUMMY_ -> MUMMY_MOVING_VELOCITY;
+            case EntityCreator.FLYING_CARPET_ -> FLYING_CARPET_MOVING_VELOCITY;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Checks whether an entity type moves, i.e. takes the next travel range of the level.
+     *
+     * @param entityType The entity type.
+     * @return {@code true} for enemies and flying carpets.
+     */
+    public static boolean isMover(String entityType) {
+        return getMovingVelocity(entityType) > 0;
+    }
+
+    /**
+     * Adds the body of an entity to the physics world, and its mover if it moves.
+     *
+     * @param world      The physics world receiving the body.
+     * @param movers     The mover system receiving the mover.
+     * @param entityType The entity type.
+     * @param bounds     The bounds of the entity, as returned by {@link #getBounds(String, int, int)}.
+     * @param range      The travel range of a moving entity, ignored for the others.
+     * @return The id of the new body.
+     */
+    public static int addBody(PhysicsWorld world, MoverSystem movers, String entityType, int[] bounds, int[] range) {
+        int kinds = getKinds(entityType);
+        if (isMover(entityType)) {
+            int bodyId = world.addDynamicBody(bounds[0], bounds[1], bounds[2], bounds[3], kinds);
+            // enemies face the way they walk; the carpet looks the same both ways
+            movers.add(bodyId, range, getMovingVelocity(entityType), (kinds & PhysicsWorld.HAZARD) != 0);
+            return bodyId;
+        }
+        int bodyId = world.addStaticBody(bounds[0], bounds[1], bounds[2], bounds[3], kinds);
+        if ((kinds & PhysicsWorld.FEATURE) != 0) {
+            String featureType = entityType.equals(EntityCreator.GLACIER_ICE_BLOCK_) ? FeatureBlock.ICE_BLOCK : FeatureBlock.SNOW_BLOCK;
+            world.setSpeedFactor(bodyId, FeatureBlock.getSpeedFactor(featureType));
+        }
+        return bodyId;
+    }
+
+    /**
+     * Builds the bodies and movers of a level, without loading any image.
+     * <p>
+     * The world and the mover system are cleared first. Movers take the travel ranges of the level in grid order,
+     * as in the game.
+     *
+     * @param levelData The level to build.
+     * @param world     The physics world receiving the bodies; it is indexed once all bodies are added.
+     * @param movers    The mover system receiving the movers.
+     */
+    public static void build(LevelData levelData, PhysicsWorld world, MoverSystem movers) {
+        world.clear();
+        movers.clear();
+        Iterator<int[]> ranges = levelData.getMovableObjectRanges().iterator();
+        String[] level = levelData.getRows();
+        for (int i = 0; i < level.length; i++) {
+            String line = level[i];
+            for (int j = 0; j < line.length(); j++) {
+                String entityType = levelData.getEntityType(line.charAt(j));
+                if (entityType != null) {
+                    addBody(world, movers, entityType, getBounds(entityType, j, i), isMover(entityType) ? ranges.next() : null);
+                }
+            }
+        }
+        world.build();
+    }
+
+    /**
+     * Returns the width of a level.
+     *
+     * @param levelData The level.
+     * @return The width of the level's grid, in pixels.
+     */
+    public static int getWidth(LevelData levelData) {
+        return levelData.getRows()[0].length() * BLOCK_SIZE;
+    }
+}
@@ -1,19 +1,31 @@
 package com.platformer.escape_beyond.model.game;
 
 import com.platformer.escape_beyond.pattern.Subject;
-import javafx.geometry.Point2D;
 
 /**
  * Represents the data model for the player in the game.
  * This class acts as the Subject in the Observer Pattern. It maintains the player's state,
  * including position, velocity, and jump status, and notifies all attached observers whenever
  * its state changes. Observers can dynamically register to monitor the player's state updates.
+ * <p>
+ * The velocity is kept in primitive fields and changed in place by {@link #applyGravity()} and
+ * {@link #applyJumpImpulse()}, so updating the player every tick allocates nothing. Observers are
+ * only interested in the position: setting x or y to a new value marks the model as changed, and
+ * {@link #notifyObserversIfChanged()} reports it once per tick.
  */
 public class PlayerModel extends Subject {
+    public static final double WIDTH = 25; // Width of the player's collision box.
+    public static final double HEIGHT = 50; // Height of the player's collision box.
+
     private double x; // The X-coordinate of the player's position.
     private double y; // The Y-coordinate of the player's position.
     private boolean canJump = true; // Indicates whether the player can perform a jump.
-    private Point2D playerVelocity = new Point2D(0, 0); // The player's current velocity as a 2D vector.
+    private double velocityX; // The player's horizontal velocity, in pixels per tick.
+    private double velocityY; // The player's vertical velocity, in pixels per tick; positive is down.
+
+    private double gravity = 1; // Added to the vertical velocity every tick while falling slower than the terminal velocity.
+    private double terminalVelocity = 10; // Falling speed above which gravity stops accelerating the player.
+    private double jumpImpulse = 30; // Upward speed added by a jump.
 
     /**
      * Gets the player's X-coordinate.
@@ -30,7 +42,10 @@ public class PlayerModel extends Subject {
      * @param x The new X-coordinate of the player's position.
      */
     public void setX(double x) {
-        this.x = x;
+        if (this.x != x) {
+            this.x = x;
+            markChanged();
+        }
     }
 
     /**
@@ -48,7 +63,10 @@ public class PlayerModel extends Subject {
      * @param y The new Y-coordinate of the player's position.
      */
     public void setY(double y) {
-        this.y = y;
+        if (this.y != y) {
+            this.y = y;
+            markChanged();
+        }
     }
 
     /**
@@ -70,20 +88,77 @@ public class PlayerModel extends Subject {
     }
 
     /**
-     * Gets the player's current velocity as a 2D vector.
+     * Accelerates the player downwards by the gravity, up to the terminal velocity.
+     */
+    public void applyGravity() {
+        if (velocityY < terminalVelocity) {
+            velocityY += gravity;
+        }
+    }
+
+    /**
+     * Adds the jump impulse to the player's velocity, upwards.
+     */
+    public void applyJumpImpulse() {
+        velocityY -= jumpImpulse;
+    }
+
+    /**
+     * Sets the player's velocity.
+     *
+     * @param velocityX The horizontal velocity, in pixels per tick.
+     * @param velocityY The vertical velocity, in pixels per tick; positive is down.
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    /**
+     * Sets the gravity added to the vertical velocity every tick.
      *
-     * @return The player's velocity.
+     * @param gravity The gravity, in pixels per tick per tick.
      */
-    public Point2D getPlayerVelocity() {
-        return playerVelocity;
+    public void setGravity(double gravity) {
+        this.gravity = gravity;
     }
 
     /**
-     * Sets the player's current velocity.
+     * Sets the falling speed above which gravity stops accelerating the player.
      *
-     * @param playerVelocity The new velocity of the player.
+     * @param terminalVelocity The terminal velocity, in pixels per tick.
      */
-    public void setPlayerVelocity(Point2D playerVelocity) {
-        this.playerVelocity = playerVelocity;
+    public void setTerminalVelocity(double terminalVelocity) {
+        this.terminalVelocity = terminalVelocity;
+    }
+
+    /**
+     * Sets the upward speed added by a jump.
+     *
+     * @param jumpImpulse The jump impulse, in pixels per tick.
+     */
+    public void setJumpImpulse(double jumpImpulse) {
+        this.jumpImpulse = jumpImpulse;
+    }
+
+    // Getters
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public double getGravity() {
+        return gravity;
+    }
+
+    public double getTerminalVelocity() {
+        return terminalVelocity;
+    }
+
+    public double getJumpImpulse() {
+        return jumpImpulse;
     }
 }
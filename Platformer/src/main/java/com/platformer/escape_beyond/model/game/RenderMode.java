@@ -0,0 +1,36 @@
+package com.platformer.escape_beyond.model.game;
+
+/**
+ * The ways the static tiles of a level can be drawn.
+ * <p>
+ * The mode is chosen at launch with the system property {@value #PROPERTY}, e.g.
+ * {@code -Descape_beyond.renderer=canvas}, so that the renderers can be compared on the same map.
+ */
+public enum RenderMode {
+    /** Every tile on screen is its own {@code ImageView}. */
+    NODES,
+
+    /** The tiles of each chunk are baked into one bitmap in the background, ahead of the camera; a few recent bitmaps are kept. */
+    BAKED,
+
+    /** Platforms, obstacles, feature blocks and the destination are painted onto one canvas. */
+    CANVAS;
+
+    /** The system property selecting the mode. */
+    public static final String PROPERTY = "escape_beyond.renderer";
+
+    /**
+     * Reads the render mode from the {@value #PROPERTY} system property.
+     *
+     * @return The mode named by the property ({@code nodes}, {@code baked} or {@code canvas}), {@link #BAKED} by default.
+     */
+    public static RenderMode fromSystemProperty() {
+        String name = System.getProperty(PROPERTY, BAKED.name());
+        for (RenderMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return BAKED;
+    }
+}
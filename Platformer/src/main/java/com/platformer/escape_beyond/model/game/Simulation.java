@@ -0,0 +1,167 @@
+package com.platformer.escape_beyond.model.game;
+
+import com.platformer.escape_beyond.input.InputBindings;
+import com.platformer.escape_beyond.input.InputState;
+import com.platformer.escape_beyond.manager.EventManager;
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import com.platformer.escape_beyond.model.physics.PlayerPhysics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Plays a level without a display, driven by scripted input.
+ * <p>
+ * The simulation builds the level's bodies and movers with {@link LevelLayout}, and then runs the
+ * same fixed tick as the game: the player is stepped by {@link PlayerPhysics}, the movers by the
+ * {@link MoverSystem}, and the events of the tick are drained at its end. The input of each tick is
+ * a mask of {@link com.platformer.escape_beyond.input.Action}s, so a run is fully determined by its
+ * level and script. No image is loaded and no node is created, so thousands of runs can be played
+ * per second, e.g. to test a level or tune the physics. A run is either played whole with
+ * {@link #run(int[], int)}, or tick by tick with {@link #reset()} and {@link #step(int)}.
+ * A simulation is not thread-safe; use one per thread.
+ */
+public class Simulation {
+    public static final int TICKS_PER_SECOND = 60; // Ticks per second of game time, as in the game loop
+    public static final int TIME_LIMIT_TICKS = 300 * TICKS_PER_SECOND; // The level countdown, in ticks
+
+    private final LevelData levelData; // The level played
+    private final PhysicsWorld world = new PhysicsWorld(LevelLayout.BLOCK_SIZE); // Collision bodies of the level
+    private final MoverSystem movers = new MoverSystem(); // Enemies and flying carpets patrolling the level
+    private final EventManager events = new EventManager(); // Events of the current tick, separate from the game's
+    private final InputState input = new InputState(InputBindings.defaults()); // Input replayed from the script
+
+    private PlayerPhysics physics; // Moves the player of the current run
+    private GameEvent outcome; // The event that ended the current run, or null while it goes on
+    private int ticks; // Ticks played in the current run
+    private int collectedSupplies; // Supplies collected during the current run
+
+    /**
+     * The outcome of a simulated run.
+     */
+    public static final class Result {
+        private final GameEvent outcome; // GOAL_REACHED, ENEMY_HIT, FELL_OUT or TIME_UP
+        private final int ticks; // Ticks played
+        private final int collectedSupplies; // Supplies collected
+
+        private Result(GameEvent outcome, int ticks, int collectedSupplies) {
+            this.outcome = outcome;
+            this.ticks = ticks;
+            this.collectedSupplies = collectedSupplies;
+        }
+
+        /**
+         * Checks whether the player reached the destination.
+         *
+         * @return {@code true} if the run was won.
+         */
+        public boolean isWin() {
+            return outcome == GameEvent.GOAL_REACHED;
+        }
+
+        // Getters
+        public GameEvent getOutcome() {
+            return outcome;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        public int getCollectedSupplies() {
+            return collectedSupplies;
+        }
+
+        @Override
+        public String toString() {
+            return outcome + " after " + ticks + " ticks, " + collectedSupplies + " supplies";
+        }
+    }
+
+    /**
+     * Constructs a simulation of a level.
+     *
+     * @param levelData The level to play, e.g. {@link LevelData#getLevel(int)}.
+     */
+    public Simulation(LevelData levelData) {
+        this.levelData = levelData;
+        events.subscribe(GameEvent.SUPPLY_COLLECTED, (event, value) -> collectedSupplies++);
+        events.subscribe(GameEvent.ENEMY_HIT, (event, value) -> end(event));
+        events.subscribe(GameEvent.FELL_OUT, (event, value) -> end(event));
+        events.subscribe(GameEvent.GOAL_REACHED, (event, value) -> end(event));
+    }
+
+    /**
+     * Plays the level within the level's countdown.
+     *
+     * @param script The actions held during each tick; no action is held after the end of the script.
+     * @return The outcome of the run.
+     */
+    public Result run(int[] script) {
+        return run(script, TIME_LIMIT_TICKS);
+    }
+
+    /**
+     * Plays the level from the start until the game ends or the tick limit is reached.
+     *
+     * @param script   The actions held during each tick, as combinations of
+     *                 {@link com.platformer.escape_beyond.input.Action#mask()}s; no action is held after the end of the script.
+     * @param maxTicks The number of ticks after which the run ends with {@link GameEvent#TIME_UP}.
+     * @return The outcome of the run.
+     */
+    public Result run(int[] script, int maxTicks) {
+        reset();
+        while (ticks < maxTicks) {
+            int downMask = ticks < script.length ? script[ticks] : 0;
+            if (!step(downMask)) {
+                break;
+            }
+        }
+        return new Result(outcome == null ? GameEvent.TIME_UP : outcome, ticks, collectedSupplies);
+    }
+
+    /**
+     * Starts a new run: rebuilds the level and puts the player back at the start.
+     */
+    public void reset() {
+        LevelLayout.build(levelData, world, movers);
+        events.clear();
+        input.clear();
+        outcome = null;
+        ticks = 0;
+        collectedSupplies = 0;
+        physics = new PlayerPhysics(new PlayerModel(), world, input, events, LevelLayout.getWidth(levelData));
+    }
+
+    /**
+     * Plays one tick of the current run: the player, then the movers, then the events of the tick.
+     *
+     * @param downMask The actions held during the tick.
+     * @return {@code true} if the run goes on, {@code false} once the game has ended.
+     */
+    public boolean step(int downMask) {
+        if (outcome != null) {
+            return false;
+        }
+        input.replay(downMask);
+        physics.step();
+        movers.step(world);
+        try {
+            events.drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // the listeners of the simulation do no I/O
+        }
+        ticks++;
+        return outcome == null;
+    }
+
+    /**
+     * Ends the run. As in the game, the events left from the tick are dropped.
+     */
+    private void end(GameEvent event) {
+        outcome = event;
+        events.clear();
+    }
+}
@@ -0,0 +1,110 @@
+package com.platformer.escape_beyond.model.physics;
+
+import java.util.Arrays;
+
+/**
+ * The mover components of the level and the system stepping them.
+ * <p>
+ * A mover patrols a dynamic body of the {@link PhysicsWorld} back and forth along the X-axis: it
+ * moves by its velocity every tick until it has travelled to the end of its range, then turns
+ * around and travels back to the start of the range. The range is relative to the body's initial
+ * position. Enemies and flying carpets are movers.
+ * <p>
+ * Components are stored as parallel arrays indexed by a dense mover index, and refer to their body
+ * by body id, so {@link #step(PhysicsWorld)} is a single loop over packed arrays.
+ */
+public class MoverSystem {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int count; // Number of movers
+    private int[] bodyId = new int[INITIAL_CAPACITY]; // Body moved by each mover
+    private int[] startRange = new int[INITIAL_CAPACITY]; // Offset at which each mover turns right
+    private int[] endRange = new int[INITIAL_CAPACITY]; // Offset at which each mover turns left
+    private int[] velocity = new int[INITIAL_CAPACITY]; // Distance each mover travels per tick
+    private int[] offset = new int[INITIAL_CAPACITY]; // Distance each mover has travelled from its initial position
+    private boolean[] movingRight = new boolean[INITIAL_CAPACITY]; // Direction of each mover
+    private boolean[] flips = new boolean[INITIAL_CAPACITY]; // Whether each mover is drawn mirrored while moving left
+
+    /**
+     * Adds a mover to a dynamic body. The mover starts at its initial position, moving right.
+     *
+     * @param body     The id of the body to move.
+     * @param range    The start and end of the range, relative to the body's initial position.
+     * @param speed    The distance travelled per tick (must be positive).
+     * @param flipping Whether the body is drawn mirrored while moving left.
+     * @return The index of the new mover.
+     * @throws IllegalArgumentException if the range is invalid or the speed is non-positive.
+     */
+    public int add(int body, int[] range, int speed, boolean flipping) {
+        if (range == null || range.length != 2 || range[0] >= range[1]) {
+            throw new IllegalArgumentException("Range must be a valid array with two values: [start, end].");
+        }
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Velocity must be a positive value.");
+        }
+        if (count == bodyId.length) {
+            int capacity = count * 2;
+            bodyId = Arrays.copyOf(bodyId, capacity);
+            startRange = Arrays.copyOf(startRange, capacity);
+            endRange = Arrays.copyOf(endRange, capacity);
+            velocity = Arrays.copyOf(velocity, capacity);
+            offset = Arrays.copyOf(offset, capacity);
+            movingRight = Arrays.copyOf(movingRight, capacity);
+            flips = Arrays.copyOf(flips, capacity);
+        }
+        bodyId[count] = body;
+        startRange[count] = range[0];
+        endRange[count] = range[1];
+        velocity[count] = speed;
+        offset[count] = 0;
+        movingRight[count] = true;
+        flips[count] = flipping;
+        return count++;
+    }
+
+    /**
+     * Moves every mover by one tick. A mover at the end of its range turns around instead of moving.
+     *
+     * @param world The physics world holding the bodies.
+     */
+    public void step(PhysicsWorld world) {
+        for (int i = 0; i < count; i++) {
+            int move;
+            if (movingRight[i]) {
+                move = offset[i] < endRange[i] ? velocity[i] : 0;
+            } else {
+                move = offset[i] > startRange[i] ? -velocity[i] : 0;
+            }
+            if (move == 0) {
+                movingRight[i] = !movingRight[i];
+                continue;
+            }
+            offset[i] += move;
+            world.setMinX(bodyId[i], world.getMinX(bodyId[i]) + move);
+        }
+    }
+
+    /**
+     * Removes every mover.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    // Getters
+    public int size() {
+        return count;
+    }
+
+    public int getBodyId(int index) {
+        return bodyId[index];
+    }
+
+    public boolean isMovingRight(int index) {
+        return movingRight[index];
+    }
+
+    public boolean isFlipping(int index) {
+        return flips[index];
+    }
+}
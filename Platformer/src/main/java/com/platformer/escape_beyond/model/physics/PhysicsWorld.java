@@ -0,0 +1,265 @@
+package com.platformer.escape_beyond.model.physics;
+
+import java.util.Arrays;
+
+/**
+ * A headless collision world holding the axis-aligned boxes of a level.
+ * <p>
+ * Bodies are stored as plain parallel arrays indexed by a body id, in world coordinates
+ * (the positions the entities are given when the level is loaded). Nothing here refers to
+ * the JavaFX scene graph, so the simulation can be stepped and benchmarked without a display;
+ * the scene graph only mirrors these positions when a frame is drawn.
+ * <p>
+ * Each body carries a set of kind flags describing how the player interacts with it. Static
+ * bodies are indexed in a {@link SpatialGrid} once the level is loaded, while dynamic bodies
+ * (movers such as enemies and flying carpets) are returned by every query.
+ * <p>
+ * The body id doubles as the id of the entity: other components of the entity, such as its patrol
+ * movement in the {@link MoverSystem} or its sprite in the view, refer to it by this id.
+ */
+public class PhysicsWorld {
+    // Body kinds, combined as bit flags
+    public static final int SOLID = 1; // Blocks the player
+    public static final int FEATURE = 2; // Changes the player's speed when stood on
+    public static final int PICKUP = 4; // Collected when touched
+    public static final int HAZARD = 8; // Ends the game when touched
+    public static final int GOAL = 16; // Wins the level when reached
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int count; // Number of bodies added so far
+    private double[] minX = new double[INITIAL_CAPACITY]; // Left edge of each body
+    private double[] previousMinX = new double[INITIAL_CAPACITY]; // Left edge of each body before the last tick
+    private double[] minY = new double[INITIAL_CAPACITY]; // Top edge of each body
+    private double[] width = new double[INITIAL_CAPACITY]; // Width of each body
+    private double[] height = new double[INITIAL_CAPACITY]; // Height of each body
+    private int[] flags = new int[INITIAL_CAPACITY]; // Kind flags of each body, 0 once removed
+    private double[] speedFactor = new double[INITIAL_CAPACITY]; // Speed factor applied while standing on a FEATURE body
+
+    private final SpatialGrid grid; // Index over the bodies
+
+    /**
+     * Constructs an empty world.
+     *
+     * @param cellSize The cell size of the spatial index, usually the size of a map tile.
+     */
+    public PhysicsWorld(int cellSize) {
+        this.grid = new SpatialGrid(cellSize);
+    }
+
+    /**
+     * Adds a body that never moves.
+     *
+     * @param x     The left edge of the body.
+     * @param y     The top edge of the body.
+     * @param w     The width of the body.
+     * @param h     The height of the body.
+     * @param kinds The kind flags of the body (e.g. {@code SOLID | FEATURE}).
+     * @return The id of the new body.
+     */
+    public int addStaticBody(double x, double y, double w, double h, int kinds) {
+        int id = addBody(x, y, w, h, kinds);
+        grid.insert(id, x, y, x + w, y + h);
+        return id;
+    }
+
+    /**
+     * Adds a body that moves during play.
+     *
+     * @param x     The initial left edge of the body.
+     * @param y     The initial top edge of the body.
+     * @param w     The width of the body.
+     * @param h     The height of the body.
+     * @param kinds The kind flags of the body (e.g. {@code HAZARD}).
+     * @return The id of the new body.
+     */
+    public int addDynamicBody(double x, double y, double w, double h, int kinds) {
+        int id = addBody(x, y, w, h, kinds);
+        grid.addDynamic(id);
+        return id;
+    }
+
+    /**
+     * Builds the spatial index. Called once after all static bodies have been added.
+     */
+    public void build() {
+        grid.build();
+    }
+
+    /**
+     * Collects the ids of the bodies that may touch the given area.
+     * <p>
+     * The ids are sorted, so bodies are visited in the order they were added. Removed bodies
+     * may still be reported; callers filter by {@link #hasKind(int, int)}.
+     *
+     * @param minX The left edge of the area.
+     * @param minY The top edge of the area.
+     * @param maxX The right edge of the area.
+     * @param maxY The bottom edge of the area.
+     * @param out  The array receiving the ids; it is grown when too small.
+     * @return The array holding the ids; the number of ids is given by {@link #getResultCount()}.
+     */
+    public int[] query(double minX, double minY, double maxX, double maxY, int[] out) {
+        out = grid.query(minX, minY, maxX, maxY, out);
+        Arrays.sort(out, 0, grid.getResultCount());
+        return out;
+    }
+
+    /**
+     * Returns the number of ids written by the last call to {@link #query}.
+     *
+     * @return The number of valid entries at the start of the result array.
+     */
+    public int getResultCount() {
+        return grid.getResultCount();
+    }
+
+    /**
+     * Moves a body horizontally. Only dynamic bodies may be moved.
+     *
+     * @param id The body id.
+     * @param x  The new left edge of the body.
+     */
+    public void setMinX(int id, double x) {
+        minX[id] = x;
+    }
+
+    /**
+     * Remembers the current positions as the state before the next tick, used to interpolate rendering.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(minX, 0, previousMinX, 0, count);
+    }
+
+    /**
+     * Returns the left edge of a body between its previous and current position.
+     *
+     * @param id    The body id.
+     * @param alpha The fraction of a tick elapsed since the last tick, from 0 to 1.
+     * @return The interpolated left edge of the body.
+     */
+    public double getInterpolatedMinX(int id, double alpha) {
+        return previousMinX[id] + (minX[id] - previousMinX[id]) * alpha;
+    }
+
+    /**
+     * Removes a body from play, e.g. once a supply has been collected.
+     *
+     * @param id The body id.
+     */
+    public void remove(int id) {
+        flags[id] = 0;
+    }
+
+    /**
+     * Sets the speed factor applied to the player while standing on a {@code FEATURE} body.
+     *
+     * @param id     The body id.
+     * @param factor The speed factor (1 for normal speed).
+     */
+    public void setSpeedFactor(int id, double factor) {
+        speedFactor[id] = factor;
+    }
+
+    // Getters
+    public int size() {
+        return count;
+    }
+
+    public double getMinX(int id) {
+        return minX[id];
+    }
+
+    public double getMinY(int id) {
+        return minY[id];
+    }
+
+    public double getMaxX(int id) {
+        return minX[id] + width[id];
+    }
+
+    public double getMaxY(int id) {
+        return minY[id] + height[id];
+    }
+
+    public double getWidth(int id) {
+        return width[id];
+    }
+
+    public double getHeight(int id) {
+        return height[id];
+    }
+
+    public double getSpeedFactor(int id) {
+        return speedFactor[id];
+    }
+
+    /**
+     * Checks whether a body has any of the given kinds.
+     *
+     * @param id    The body id.
+     * @param kinds The kind flags to test.
+     * @return {@code true} if the body is still in play and has one of the kinds.
+     */
+    public boolean hasKind(int id, int kinds) {
+        return (flags[id] & kinds) != 0;
+    }
+
+    /**
+     * Checks whether a body overlaps or touches the given box.
+     *
+     * @param id   The body id.
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return {@code true} if the two boxes intersect, edges included.
+     */
+    public boolean intersects(int id, double minX, double minY, double maxX, double maxY) {
+        return getMaxX(id) >= minX && getMaxY(id) >= minY && getMinX(id) <= maxX && getMinY(id) <= maxY;
+    }
+
+    /**
+     * Checks whether a body contains the given point.
+     *
+     * @param id The body id.
+     * @param x  The x-coordinate of the point.
+     * @param y  The y-coordinate of the point.
+     * @return {@code true} if the point lies inside the body, edges included.
+     */
+    public boolean contains(int id, double x, double y) {
+        return x >= getMinX(id) && x <= getMaxX(id) && y >= getMinY(id) && y <= getMaxY(id);
+    }
+
+    /**
+     * Removes every body from the world.
+     */
+    public void clear() {
+        count = 0;
+        grid.clear();
+    }
+
+    /**
+     * Appends a body to the arrays, growing them when needed.
+     */
+    private int addBody(double x, double y, double w, double h, int kinds) {
+        if (count == minX.length) {
+            int capacity = count * 2;
+            minX = Arrays.copyOf(minX, capacity);
+            previousMinX = Arrays.copyOf(previousMinX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            speedFactor = Arrays.copyOf(speedFactor, capacity);
+        }
+        minX[count] = x;
+        previousMinX[count] = x;
+        minY[count] = y;
+        width[count] = w;
+        height[count] = h;
+        flags[count] = kinds;
+        speedFactor[count] = 1;
+        return count++;
+    }
+}
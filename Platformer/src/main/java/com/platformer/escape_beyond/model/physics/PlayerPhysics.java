@@ -0,0 +1,310 @@
+package com.platformer.escape_beyond.model.physics;
+
+import com.platformer.escape_beyond.input.Action;
+import com.platformer.escape_beyond.input.InputState;
+import com.platformer.escape_beyond.manager.EventManager;
+import com.platformer.escape_beyond.model.game.GameEvent;
+import com.platformer.escape_beyond.model.game.PlayerModel;
+
+/**
+ * Moves the player through the bodies of a {@link PhysicsWorld}, one tick at a time.
+ * <p>
+ * All collision tests run against the bodies of the world in world coordinates, and what the player
+ * runs into is posted to an {@link EventManager} to be handled at the end of the tick. The horizontal
+ * scroll of the screen is kept here as a plain number, since whether the screen follows the player
+ * depends on where the player is on screen. Nothing here touches the scene graph, so the same rules
+ * drive the game and the headless simulation.
+ */
+public class PlayerPhysics {
+    private final PlayerModel playerModel; // The player's data model.
+    private final PhysicsWorld world; // Collision bodies of the level.
+    private final InputState input; // This tick's input, polled by the caller before each step.
+    private final EventManager events; // Receives what happens to the player during a tick.
+    private final int levelWidth; // The width of the level.
+    private int[] candidates = new int[32]; // Ids of the bodies near the player, reused between queries.
+    private int candidateCount; // Number of valid entries in candidates.
+    private double scrollX; // World x-coordinate shown at the left edge of the screen.
+    private boolean isMovingRight = true; // Direction the player last moved in.
+
+    private static final int MOVE_STEP = 5; // Movement step for horizontal motion
+    private static final int SCREEN_HEIGHT_THRESHOLD = 780; // Player Y position threshold to trigger game over
+    private static final int CENTER_RANGE_MIN = 635; // Minimum X coordinate for central range
+    private static final int CENTER_RANGE_MAX = 645; // Maximum X coordinate for central range
+
+    /**
+     * Constructs the physics of a player at the start of a level.
+     *
+     * @param playerModel The player's data model.
+     * @param world       The collision bodies of the level.
+     * @param input       The input read every tick.
+     * @param events      The queue receiving the events of each tick.
+     * @param levelWidth  The width of the level.
+     */
+    public PlayerPhysics(PlayerModel playerModel, PhysicsWorld world, InputState input, EventManager events, int levelWidth) {
+        this.playerModel = playerModel;
+        this.world = world;
+        this.input = input;
+        this.events = events;
+        this.levelWidth = levelWidth;
+    }
+
+    /**
+     * Updates the player's position, velocity, and checks for collisions and interactions.
+     */
+    public void step() {
+        move();
+        checkInteractions();
+    }
+
+    /**
+     * Moves the player for one tick: applies the input, the vertical velocity and gravity.
+     */
+    public void move() {
+        handlePlayerInput(); // Handle key input
+
+        movePlayerY((int) playerModel.getVelocityY()); // Apply vertical velocity.
+        playerModel.applyGravity(); // Apply gravity.
+        playerModel.notifyObserversIfChanged(); // Notify the observers if the player has moved.
+    }
+
+    /**
+     * Checks what the player touches after moving, and posts the events of the tick.
+     */
+    public void checkInteractions() {
+        // If playerY is smaller than 780, means player is out of screen (drop into the dark hole)
+        // actually, it should be 720, but we add 60 to make sure that the player has opportunity to jump out of the dark hole
+        // then game over
+        if (playerModel.getY() > SCREEN_HEIGHT_THRESHOLD) {
+            events.post(GameEvent.FELL_OUT);
+        }
+        checkSupplyCollection(); // Check for interactions with supply nodes.
+        checkDestinationReached(); // Check whether the player is at the place of destination
+        checkEnemyCollision(); // check if the player being attacked by enemy
+    }
+
+    /**
+     * Handles player movement based on key inputs.
+     */
+    private void handlePlayerInput() {
+        if (input.isDown(Action.JUMP) && playerModel.getY() >= MOVE_STEP) {
+            jumpPlayer();
+        }
+        if (input.isDown(Action.LEFT) && playerModel.getX() >= MOVE_STEP) {
+            movePlayerX(-MOVE_STEP);
+        }
+        if (input.isDown(Action.RIGHT) && playerModel.getX() + PlayerModel.WIDTH <= levelWidth - MOVE_STEP) {
+            movePlayerX(MOVE_STEP);
+        }
+    }
+
+    /**
+     * Checks and handles collisions with supply nodes.
+     * <p>
+     * The supply's body is removed at once so it cannot be collected twice; the event carries its id
+     * so that its sprite can be removed as well.
+     */
+    private void checkSupplyCollection(){
+        queryPlayerBox(0);
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (world.hasKind(id, PhysicsWorld.PICKUP) && intersectsPlayer(id)) {
+                world.remove(id);
+                events.post(GameEvent.SUPPLY_COLLECTED, id);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Checks if the player has reached the destination.
+     */
+    private void checkDestinationReached() {
+        double midPlayerX = playerModel.getX() + PlayerModel.WIDTH / 2;
+        double footY = playerModel.getY() + 70;
+
+        candidates = world.query(midPlayerX, footY, midPlayerX, footY, candidates);
+        candidateCount = world.getResultCount();
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (world.hasKind(id, PhysicsWorld.GOAL) && world.contains(id, midPlayerX, footY)) {
+                events.post(GameEvent.GOAL_REACHED, id);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if the player is attacked by an enemy.
+     */
+    private void checkEnemyCollision() {
+        queryPlayerBox(0);
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (world.hasKind(id, PhysicsWorld.HAZARD) && intersectsPlayer(id)) {
+                events.post(GameEvent.ENEMY_HIT, id);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Determines the speed factor based on the feature block the player is standing on.
+     *
+     * @param midPlayerX The middle X coordinate of the player.
+     * @return The speed factor (default is 1, increased or decreased based on the block type).
+     */
+    private double calculateSpeedFactor(double midPlayerX){
+        double footY = playerModel.getY() + 70;
+
+        // judge if the player is on the feature blocks
+        candidates = world.query(midPlayerX, footY, midPlayerX, footY, candidates);
+        candidateCount = world.getResultCount();
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (world.hasKind(id, PhysicsWorld.FEATURE) && world.contains(id, midPlayerX, footY)) {
+                return world.getSpeedFactor(id);
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Moves the player horizontally by a specified value.
+     * <p>
+     * Handles collision detection, adjusts speed based on feature blocks,
+     * and scrolls the world when the player is in the center of the screen. The move is swept in one pass
+     * and stops where the player touches the nearest solid body in its way.
+     *
+     * @param value The horizontal distance to move. Positive for right, negative for left.
+     */
+    private void movePlayerX(int value) {
+        isMovingRight = value > 0;
+
+        // calculate the middle point of player
+        double playerMinX = playerModel.getX();
+        double midPlayerX = playerMinX + PlayerModel.WIDTH / 2;
+
+        double speedFactor = calculateSpeedFactor(midPlayerX);
+
+        // when the player is in the center range of the screen, the screen follows the player
+        double midScreenX = midPlayerX - scrollX;
+        boolean isInCenterRange = midScreenX < CENTER_RANGE_MAX && midScreenX > CENTER_RANGE_MIN;
+
+        // sweep the player along X and stop at the nearest solid body in the way
+        double distance = Math.abs(value) * speedFactor;
+        double dx = isMovingRight ? distance : -distance;
+        queryPlayerBox(distance + 1);
+        double travel = distance;
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (world.hasKind(id, PhysicsWorld.SOLID)) {
+                travel = Math.min(travel, SweptAabb.timeOfImpactX(playerMinX, playerModel.getY(),
+                        playerMinX + PlayerModel.WIDTH, playerModel.getY() + PlayerModel.HEIGHT, dx,
+                        world.getMinX(id), world.getMinY(id), world.getMaxX(id), world.getMaxY(id)));
+            }
+        }
+        if (travel <= 0) {
+            return; // already touching a platform in this direction
+        }
+
+        double move = isMovingRight ? travel : -travel;
+        playerModel.setX(playerMinX + move);
+        if (isInCenterRange) {
+            scrollX += move; // keep the player where it is on screen
+        }
+    }
+
+    /**
+     * Moves the player vertically based on the specified value.
+     * <p>
+     * Handles gravity and collision detection with platforms. The move is swept in one pass:
+     * the player stops at the nearest solid body in its way, landing on top of it when moving down
+     * or hitting its bottom when moving up.
+     *
+     * @param value The vertical distance to move. Positive for down, negative for up.
+     */
+    private void movePlayerY(int value) {
+        if (value == 0) {
+            return;
+        }
+        boolean movingDown = value > 0;
+        double minX = playerModel.getX();
+        double minY = playerModel.getY();
+
+        // only the bodies within reach of this move can stop it
+        candidates = world.query(minX, minY - Math.abs(value) - 1, minX + PlayerModel.WIDTH, minY + PlayerModel.HEIGHT + Math.abs(value) + 1, candidates);
+        candidateCount = world.getResultCount();
+
+        // find the first solid body the player runs into
+        double contact = SweptAabb.NO_HIT;
+        int hit = -1;
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (!world.hasKind(id, PhysicsWorld.SOLID)) {
+                continue;
+            }
+            double distance = SweptAabb.timeOfImpactY(minX, minY, minX + PlayerModel.WIDTH, minY + PlayerModel.HEIGHT, value,
+                    world.getMinX(id), world.getMinY(id), world.getMaxX(id), world.getMaxY(id));
+            if (distance < contact) {
+                contact = distance;
+                hit = id;
+            }
+        }
+
+        if (hit >= 0) {
+            if (movingDown) {
+                playerModel.setY((int) (world.getMinY(hit) - PlayerModel.HEIGHT));
+                playerModel.setCanJump(true); // can jump again
+            } else {
+                playerModel.setY((int) world.getMaxY(hit));
+            }
+            return;
+        }
+
+        // nothing in the way, update position
+        playerModel.setY(minY + value);
+    }
+
+    /**
+     * Collects the bodies that may touch the player's box, widened horizontally by a margin, into {@code candidates}.
+     *
+     * @param marginX The distance added to both sides of the player's box.
+     */
+    private void queryPlayerBox(double marginX) {
+        double minX = playerModel.getX();
+        double minY = playerModel.getY();
+        candidates = world.query(minX - marginX, minY, minX + PlayerModel.WIDTH + marginX, minY + PlayerModel.HEIGHT, candidates);
+        candidateCount = world.getResultCount();
+    }
+
+    /**
+     * Checks whether a body overlaps or touches the player's box.
+     *
+     * @param id The body id.
+     * @return {@code true} if the body intersects the player.
+     */
+    private boolean intersectsPlayer(int id) {
+        double minX = playerModel.getX();
+        double minY = playerModel.getY();
+        return world.intersects(id, minX, minY, minX + PlayerModel.WIDTH, minY + PlayerModel.HEIGHT);
+    }
+
+    /**
+     * when player press W, jump
+     */
+    private void jumpPlayer() {
+        if (playerModel.isCanJump()) {
+            playerModel.applyJumpImpulse();
+            playerModel.setCanJump(false);
+        }
+    }
+
+    // Getters
+    public double getScrollX() {
+        return scrollX;
+    }
+
+    public boolean isMovingRight() {
+        return isMovingRight;
+    }
+}
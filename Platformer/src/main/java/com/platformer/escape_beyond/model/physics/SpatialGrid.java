@@ -0,0 +1,227 @@
+package com.platformer.escape_beyond.model.physics;
+
+import java.util.Arrays;
+
+/**
+ * A uniform-grid spatial index over axis-aligned boxes in world coordinates.
+ * <p>
+ * The level is divided into square cells (one tile, 60px, by default). Static boxes are
+ * registered once with {@link #insert(int, double, double, double, double)} while the level
+ * is loaded, then {@link #build()} packs them into flat per-cell arrays. Queries only visit the
+ * cells covered by the query box, so their cost depends on how crowded the area around the
+ * player is rather than on the size of the level.
+ * <p>
+ * Boxes that move during play (e.g. flying carpets) are registered with {@link #addDynamic(int)}
+ * and are returned by every query; there are only a few of them in a level.
+ */
+public class SpatialGrid {
+    private final int cellSize; // Edge length of a square cell in pixels
+
+    // Boxes registered before build(), stored as parallel arrays
+    private int pendingCount;
+    private int[] pendingIds = new int[64];
+    private int[] pendingMinCol = new int[64];
+    private int[] pendingMinRow = new int[64];
+    private int[] pendingMaxCol = new int[64];
+    private int[] pendingMaxRow = new int[64];
+
+    private int[] dynamicIds = new int[8]; // Ids that are returned by every query
+    private int dynamicCount;
+
+    // Packed grid: ids of cell c are cellItems[cellStart[c] .. cellStart[c + 1])
+    private int columns;
+    private int rows;
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[0];
+
+    // Marks used to report each id once per query
+    private int[] stamps = new int[0];
+    private int currentStamp;
+    private int resultCount; // Number of ids written by the last query
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param cellSize The edge length of a grid cell in pixels.
+     */
+    public SpatialGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be a positive value.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Registers a static box. The box becomes visible to queries after the next {@link #build()}.
+     *
+     * @param id   A non-negative id reported back by queries.
+     * @param minX The left edge of the box in world coordinates.
+     * @param minY The top edge of the box in world coordinates.
+     * @param maxX The right edge of the box in world coordinates.
+     * @param maxY The bottom edge of the box in world coordinates.
+     */
+    public void insert(int id, double minX, double minY, double maxX, double maxY) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative.");
+        }
+        if (pendingCount == pendingIds.length) {
+            int capacity = pendingCount * 2;
+            pendingIds = Arrays.copyOf(pendingIds, capacity);
+            pendingMinCol = Arrays.copyOf(pendingMinCol, capacity);
+            pendingMinRow = Arrays.copyOf(pendingMinRow, capacity);
+            pendingMaxCol = Arrays.copyOf(pendingMaxCol, capacity);
+            pendingMaxRow = Arrays.copyOf(pendingMaxRow, capacity);
+        }
+        pendingIds[pendingCount] = id;
+        pendingMinCol[pendingCount] = Math.max(0, toCell(minX));
+        pendingMinRow[pendingCount] = Math.max(0, toCell(minY));
+        pendingMaxCol[pendingCount] = Math.max(0, toCell(maxX));
+        pendingMaxRow[pendingCount] = Math.max(0, toCell(maxY));
+        pendingCount++;
+        ensureStampCapacity(id);
+    }
+
+    /**
+     * Registers a moving box. Dynamic ids are returned by every query regardless of position.
+     *
+     * @param id A non-negative id reported back by queries.
+     */
+    public void addDynamic(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative.");
+        }
+        if (dynamicCount == dynamicIds.length) {
+            dynamicIds = Arrays.copyOf(dynamicIds, dynamicCount * 2);
+        }
+        dynamicIds[dynamicCount++] = id;
+        ensureStampCapacity(id);
+    }
+
+    /**
+     * Packs all registered static boxes into the grid.
+     * <p>
+     * The grid is sized to cover every registered box; it is called once after the level has been loaded.
+     */
+    public void build() {
+        columns = 1;
+        rows = 1;
+        for (int k = 0; k < pendingCount; k++) {
+            columns = Math.max(columns, pendingMaxCol[k] + 1);
+            rows = Math.max(rows, pendingMaxRow[k] + 1);
+        }
+
+        // Count the entries of each cell, then turn the counts into start offsets
+        cellStart = new int[columns * rows + 1];
+        for (int k = 0; k < pendingCount; k++) {
+            for (int row = pendingMinRow[k]; row <= pendingMaxRow[k]; row++) {
+                for (int col = pendingMinCol[k]; col <= pendingMaxCol[k]; col++) {
+                    cellStart[row * columns + col + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // Fill the cells
+        cellItems = new int[cellStart[columns * rows]];
+        int[] fill = Arrays.copyOf(cellStart, columns * rows);
+        for (int k = 0; k < pendingCount; k++) {
+            for (int row = pendingMinRow[k]; row <= pendingMaxRow[k]; row++) {
+                for (int col = pendingMinCol[k]; col <= pendingMaxCol[k]; col++) {
+                    cellItems[fill[row * columns + col]++] = pendingIds[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the ids of all boxes that may touch the given area.
+     * <p>
+     * The result contains every static box whose cells overlap the area plus every dynamic box,
+     * each id at most once. Callers still perform their own exact intersection test.
+     *
+     * @param minX The left edge of the area in world coordinates.
+     * @param minY The top edge of the area in world coordinates.
+     * @param maxX The right edge of the area in world coordinates.
+     * @param maxY The bottom edge of the area in world coordinates.
+     * @param out  The array receiving the ids; it is grown when too small.
+     * @return The array holding the ids, which is {@code out} unless it had to be grown.
+     */
+    public int[] query(double minX, double minY, double maxX, double maxY, int[] out) {
+        resultCount = 0;
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+
+        int minCol = Math.max(0, toCell(minX));
+        int minRow = Math.max(0, toCell(minY));
+        int maxCol = Math.min(columns - 1, toCell(maxX));
+        int maxRow = Math.min(rows - 1, toCell(maxY));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * columns + col;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    out = report(cellItems[k], out);
+                }
+            }
+        }
+        for (int k = 0; k < dynamicCount; k++) {
+            out = report(dynamicIds[k], out);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of ids written by the last call to {@link #query}.
+     *
+     * @return The number of valid entries at the start of the result array.
+     */
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * Removes every registered box.
+     */
+    public void clear() {
+        pendingCount = 0;
+        dynamicCount = 0;
+        columns = 0;
+        rows = 0;
+        cellStart = new int[1];
+        cellItems = new int[0];
+    }
+
+    /**
+     * Appends an id to the query result unless it has already been reported.
+     */
+    private int[] report(int id, int[] out) {
+        if (stamps[id] == currentStamp) {
+            return out;
+        }
+        stamps[id] = currentStamp;
+        if (resultCount == out.length) {
+            out = Arrays.copyOf(out, Math.max(16, resultCount * 2));
+        }
+        out[resultCount++] = id;
+        return out;
+    }
+
+    /**
+     * Converts a world coordinate to a cell index.
+     */
+    private int toCell(double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    /**
+     * Grows the stamp array so that it can hold the given id.
+     */
+    private void ensureStampCapacity(int id) {
+        if (id >= stamps.length) {
+            stamps = Arrays.copyOf(stamps, Math.max(id + 1, stamps.length * 2));
+        }
+    }
+}
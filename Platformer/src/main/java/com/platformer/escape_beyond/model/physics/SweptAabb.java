@@ -0,0 +1,97 @@
+package com.platformer.escape_beyond.model.physics;
+
+/**
+ * Continuous (swept) collision tests between a moving axis-aligned box and static boxes.
+ * <p>
+ * Movement is resolved one axis at a time. For a move of {@code d} pixels along an axis, each
+ * method returns the distance the mover can travel before it touches the given box, or
+ * {@link #NO_HIT} if the box is not in the way within {@code |d|}. The caller takes the minimum
+ * over all candidate boxes and snaps the mover to that contact point, so the cost of a move does
+ * not depend on its length.
+ * <p>
+ * The contact rules match the per-pixel stepping the game used before:
+ * <ul>
+ *     <li>Horizontally, only boxes that overlap the mover's vertical span block it; a box the mover
+ *     is standing on or touching with its head does not.</li>
+ *     <li>Vertically, a box that touches the mover's side still catches it, and a box that is only
+ *     reached at the very end of the move is reported on the next move.</li>
+ * </ul>
+ */
+public final class SweptAabb {
+
+    /** Returned when the box does not stop the move. */
+    public static final double NO_HIT = Double.POSITIVE_INFINITY;
+
+    private SweptAabb() {
+    }
+
+    /**
+     * Computes how far a box moving along the X-axis travels before it touches another box.
+     *
+     * @param minX  The left edge of the moving box.
+     * @param minY  The top edge of the moving box.
+     * @param maxX  The right edge of the moving box.
+     * @param maxY  The bottom edge of the moving box.
+     * @param dx    The intended movement; positive for right, negative for left.
+     * @param bMinX The left edge of the static box.
+     * @param bMinY The top edge of the static box.
+     * @param bMaxX The right edge of the static box.
+     * @param bMaxY The bottom edge of the static box.
+     * @return The non-negative distance to the contact point, or {@link #NO_HIT}.
+     */
+    public static double timeOfImpactX(double minX, double minY, double maxX, double maxY, double dx,
+                                       double bMinX, double bMinY, double bMaxX, double bMaxY) {
+        if (dx == 0 || maxY <= bMinY || minY >= bMaxY) {
+            return NO_HIT;
+        }
+        double gap;
+        if (dx > 0) {
+            if (bMinX <= minX) {
+                return NO_HIT; // the box is not ahead of the mover
+            }
+            gap = bMinX - maxX;
+        } else {
+            if (bMaxX >= maxX) {
+                return NO_HIT;
+            }
+            gap = minX - bMaxX;
+        }
+        gap = Math.max(0, gap);
+        return gap < Math.abs(dx) ? gap : NO_HIT;
+    }
+
+    /**
+     * Computes how far a box moving along the Y-axis travels before it touches another box.
+     *
+     * @param minX  The left edge of the moving box.
+     * @param minY  The top edge of the moving box.
+     * @param maxX  The right edge of the moving box.
+     * @param maxY  The bottom edge of the moving box.
+     * @param dy    The intended movement; positive for down, negative for up.
+     * @param bMinX The left edge of the static box.
+     * @param bMinY The top edge of the static box.
+     * @param bMaxX The right edge of the static box.
+     * @param bMaxY The bottom edge of the static box.
+     * @return The non-negative distance to the contact point, or {@link #NO_HIT}.
+     */
+    public static double timeOfImpactY(double minX, double minY, double maxX, double maxY, double dy,
+                                       double bMinX, double bMinY, double bMaxX, double bMaxY) {
+        if (dy == 0 || maxX < bMinX || minX > bMaxX) {
+            return NO_HIT;
+        }
+        double gap;
+        if (dy > 0) {
+            if (bMinY <= minY) {
+                return NO_HIT; // the box is not below the mover's head
+            }
+            gap = bMinY - maxY;
+        } else {
+            if (bMaxY >= maxY) {
+                return NO_HIT;
+            }
+            gap = minY - bMaxY;
+        }
+        gap = Math.max(0, gap);
+        return gap < Math.abs(dy) ? gap : NO_HIT;
+    }
+}
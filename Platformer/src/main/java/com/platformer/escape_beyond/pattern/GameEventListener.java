@@ -0,0 +1,22 @@
+package com.platformer.escape_beyond.pattern;
+
+import com.platformer.escape_beyond.model.game.GameEvent;
+
+import java.io.IOException;
+
+/**
+ * An interface for the reactions to {@link GameEvent}s.
+ * <p>
+ * Listeners are subscribed to the event types they handle and are called once the tick that
+ * posted the event is over, so they may safely change scenes or stop the game.
+ */
+public interface GameEventListener {
+    /**
+     * Handles an event.
+     *
+     * @param event The type of the event.
+     * @param value The value posted with the event; its meaning depends on the type.
+     * @throws IOException If switching scenes fails.
+     */
+    void onEvent(GameEvent event, int value) throws IOException;
+}
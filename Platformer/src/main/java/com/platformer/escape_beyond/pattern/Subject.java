@@ -1,7 +1,6 @@
 package com.platformer.escape_beyond.pattern;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * An abstract class representing the "subject" in the Observer Pattern.
@@ -10,16 +9,23 @@ import java.util.List;
  * Subclasses of {@code Subject} can call the {@code notifyObservers()} method to
  * inform all attached observers of changes.
  * <p>
+ * Subclasses that change often can instead call {@link #markChanged()} whenever their state
+ * really changes and {@link #notifyObserversIfChanged()} once per update, so observers are only
+ * called when there is something new to show.
+ * <p>
  * This class is part of the Observer Pattern, which facilitates communication
  * between objects in a loosely coupled manner.
  */
 public abstract class Subject {
     /**
-     * A list to store all observers attached to the subject.
+     * The observers attached to the subject.
      * <p>
-     * Observers in this list will be notified whenever {@code notifyObservers()} is invoked.
+     * The array is replaced, never modified, when an observer is attached or detached, so a
+     * notification can walk it without copying or allocating, even if an observer detaches itself.
      */
-    protected List<Observer> observers = new ArrayList<>();
+    protected Observer[] observers = new Observer[0];
+
+    private boolean changed; // Whether the state changed since observers were last notified
 
     /**
      * Attaches an observer to this subject.
@@ -31,19 +37,68 @@ public abstract class Subject {
      * @throws NullPointerException if the observer is {@code null}.
      */
     public void attach(Observer observer) {
-        observers.add(observer);
+        if (observer == null) {
+            throw new NullPointerException("observer");
+        }
+        Observer[] attached = Arrays.copyOf(observers, observers.length + 1);
+        attached[observers.length] = observer;
+        observers = attached;
+    }
+
+    /**
+     * Detaches an observer from this subject. Does nothing if the observer is not attached.
+     *
+     * @param observer The {@link Observer} instance to be detached.
+     */
+    public void detach(Observer observer) {
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                Observer[] attached = new Observer[observers.length - 1];
+                System.arraycopy(observers, 0, attached, 0, i);
+                System.arraycopy(observers, i + 1, attached, i, observers.length - i - 1);
+                observers = attached;
+                return;
+            }
+        }
     }
 
     /**
      * Notifies all attached observers about a change in the subject's state.
      * <p>
-     * This method iterates through the list of attached observers and calls their
+     * This method iterates through the attached observers and calls their
      * {@link Observer#update()} method to inform them of the change.
      * Subclasses should invoke this method whenever the subject's state is updated.
      */
     public void notifyObservers() {
-        for (Observer observer : observers) {
-            observer.update();
+        changed = false;
+        Observer[] snapshot = observers;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i].update();
         }
     }
+
+    /**
+     * Notifies all attached observers if the state changed since they were last notified.
+     */
+    public void notifyObserversIfChanged() {
+        if (changed) {
+            notifyObservers();
+        }
+    }
+
+    /**
+     * Records that the subject's state has changed, to be reported by {@link #notifyObserversIfChanged()}.
+     */
+    protected void markChanged() {
+        changed = true;
+    }
+
+    /**
+     * Checks whether the state changed since observers were last notified.
+     *
+     * @return {@code true} if observers have a change to be notified of.
+     */
+    public boolean hasChanged() {
+        return changed;
+    }
 }
@@ -3,6 +3,7 @@ package com.platformer.escape_beyond.utils;
 import com.platformer.escape_beyond.model.entity.LevelData;
 
 import java.io.IOException;
+import java.util.function.DoubleConsumer;
 
 /**
  * Utility class for initializing game content based on the current map.
@@ -37,4 +38,22 @@ public class InitContent {
     public void initContent() throws IOException {
         adapter.initContent();
     }
+
+    /**
+     * Builds the entities of the current level without touching the visible scene.
+     * <p>
+     * Safe to call from a worker thread. Delegates to the {@link InitContentAdapter}.
+     *
+     * @param progress Receives the fraction of the level built so far, from 0 to 1.
+     */
+    public void loadContent(DoubleConsumer progress) {
+        adapter.loadContent(progress);
+    }
+
+    /**
+     * Shows the level built by {@link #loadContent(DoubleConsumer)}. Must run on the JavaFX thread.
+     */
+    public void attachContent() {
+        adapter.attachContent();
+    }
 }
@@ -1,20 +1,19 @@
 package com.platformer.escape_beyond.utils;
 
+import com.platformer.escape_beyond.manager.BackgroundManager;
 import com.platformer.escape_beyond.manager.DataManager;
 import com.platformer.escape_beyond.manager.SceneManager;
-import com.platformer.escape_beyond.manager.TimeManager;
 import com.platformer.escape_beyond.model.entity.LevelData;
-import com.platformer.escape_beyond.Main;
 import com.platformer.escape_beyond.controller.PlayerController;
 import com.platformer.escape_beyond.model.game.EntitySelector;
+import com.platformer.escape_beyond.model.game.LevelLayout;
 import com.platformer.escape_beyond.model.entity.Map;
 import com.platformer.escape_beyond.view.InitGameUi;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Objects;
+import java.util.function.DoubleConsumer;
 
 /**
  * Adapter class for initializing game content.
@@ -24,6 +23,7 @@ import java.util.Objects;
  */
 public class InitContentAdapter {
     private final LevelData levelData; // Instance of LevelData for dynamic level loading
+    private int levelWidth; // The width of the loaded level
     DataManager dataManager = DataManager.getInstance();
     SceneManager sceneManager = SceneManager.getInstance();
     /**
@@ -45,31 +45,62 @@ public class InitContentAdapter {
      * @throws IOException If there is an error during initialization.
      */
     public void initContent() throws IOException {
-        // Load background picture
-        ImageView bg = getBg();
+        loadContent(fraction -> {});
+        attachContent();
+    }
+
+    /**
+     * Builds the entities and the physics world of the current level.
+     * <p>
+     * Entities are added to the game root while it is not part of the scene, so this step may run on a
+     * worker thread; {@link #attachContent()} then shows the result on the JavaFX thread.
+     *
+     * @param progress Receives the fraction of the level built so far, from 0 to 1.
+     */
+    public void loadContent(DoubleConsumer progress) {
+        // Load data for the current level
+        dataManager.getGameState().totalSupplies = levelData.getSupplies();
 
-        // Load data for the current map
-        int idx = dataManager.getGameState().map.index - 1;
-        dataManager.getGameState().totalSupplies = levelData.getLevelSupplies().get(idx);
+        // Choose how the static tiles are drawn
+        dataManager.getWorldView().setRenderMode(dataManager.getGameState().renderMode);
 
         // Load level content
-        String[] level = levelData.getLevels().get(idx);
-        int levelWidth = level[0].length() * 60;  // Calculate level width
+        String[] level = levelData.getRows();
+        levelWidth = LevelLayout.getWidth(levelData);  // Calculate level width
 
         // Initialize ranges for moving objects
-        dataManager.setRangeIterator(new IntArrayIterator((ArrayList<int[]>) levelData.getLevelMovableObjectRanges().get(idx)));
+        dataManager.setRangeIterator(new IntArrayIterator(new ArrayList<>(levelData.getMovableObjectRanges())));
 
-        // Insert entities into the game based on level data
+        // Insert entities into the game based on the level's tile palette
         for (int i = 0; i < level.length; i++) {
             String line = level[i];
             for (int j = 0; j < line.length(); j++) {
-                EntitySelector.InsertEntity(line.charAt(j), j, i);
+                String entityType = levelData.getEntityType(line.charAt(j));
+                if (entityType != null) {
+                    EntitySelector.InsertEntity(entityType, j, i);
+                }
             }
+            progress.accept((i + 1) / (double) level.length);
         }
+        // Index the bodies once all of them are placed
+        dataManager.getPhysicsWorld().build();
+        // Group the static tiles of each chunk for baking, and bake the chunks the level starts on
+        dataManager.getWorldView().bakeTiles();
+    }
+
+    /**
+     * Shows the level built by {@link #loadContent(DoubleConsumer)}: adds the background, the player, the game root
+     * and the UI to the scene. Must run on the JavaFX thread; the caller starts the game timer afterwards.
+     */
+    public void attachContent() {
+        // Load background picture
+        ImageView bg = getBg();
+
+        // The world layer goes below the player
+        sceneManager.getGameRoot().getChildren().add(dataManager.getWorldView().getLayer());
+
         // Initialize player controller with observer pattern
         dataManager.setPlayerController(new PlayerController(sceneManager.getCurrentScene(), sceneManager.getGameRoot(), levelWidth, dataManager.getGameState().character.index));
-        // Start the game timer
-        TimeManager.getInstance().getTimer().start();
 
         sceneManager.getAppRoot().getChildren().addAll(bg, sceneManager.getGameRoot());
         // Initialize and add the UI
@@ -85,9 +116,8 @@ public class InitContentAdapter {
      * @return The configured background ImageView.
      */
     private ImageView getBg() {
-        ImageView bg = new ImageView(new Image(Objects.requireNonNull(
-                Main.class.getResourceAsStream(Map.getRandomMapBackground(dataManager.getGameState().map.index))
-        )));
+        ImageView bg = new ImageView(BackgroundManager.getInstance().getBackground(
+                Map.getRandomMapBackground(dataManager.getGameState().map.index)));
 
         // Configure the background ImageView
         bg.setFitWidth(1280); // Game width
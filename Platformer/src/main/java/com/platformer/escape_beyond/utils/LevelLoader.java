@@ -0,0 +1,52 @@
+package com.platformer.escape_beyond.utils;
+
+import com.platformer.escape_beyond.manager.AtlasManager;
+import com.platformer.escape_beyond.model.entity.LevelData;
+import javafx.concurrent.Task;
+
+/**
+ * Loads a level on a worker thread.
+ * <p>
+ * The loader parses the level data, packs the map's sprite atlas and builds every entity and the
+ * physics world off the JavaFX thread, reporting its progress as it goes. The result is an
+ * {@link InitContent} whose {@link InitContent#attachContent()} shows the finished level in one step
+ * on the JavaFX thread.
+ */
+public class LevelLoader extends Task<InitContent> {
+    // Share of the progress bar given to each stage
+    private static final double PARSE_SHARE = 0.1;
+    private static final double ATLAS_SHARE = 0.4;
+
+    private final int mapIndex; // The map being loaded
+
+    /**
+     * Constructs a loader for a map.
+     *
+     * @param mapIndex The index of the map to load (1 = Glacier, 2 = Desert).
+     */
+    public LevelLoader(int mapIndex) {
+        this.mapIndex = mapIndex;
+    }
+
+    /**
+     * Runs the loading stages on the worker thread.
+     *
+     * @return The content of the level, ready to be attached to the scene.
+     */
+    @Override
+    protected InitContent call() {
+        updateMessage("Reading level...");
+        updateProgress(0, 1);
+        InitContent initContent = new InitContent(LevelData.getLevel(mapIndex));
+
+        updateMessage("Loading sprites...");
+        updateProgress(PARSE_SHARE, 1);
+        AtlasManager.getInstance().getAtlas(mapIndex);
+
+        updateMessage("Building level...");
+        updateProgress(PARSE_SHARE + ATLAS_SHARE, 1);
+        initContent.loadContent(fraction ->
+                updateProgress(PARSE_SHARE + ATLAS_SHARE + (1 - PARSE_SHARE - ATLAS_SHARE) * fraction, 1));
+        return initContent;
+    }
+}
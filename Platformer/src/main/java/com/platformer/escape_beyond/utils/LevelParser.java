@@ -0,0 +1,113 @@
+package com.platformer.escape_beyond.utils;
+
+import com.platformer.escape_beyond.model.entity.LevelData;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses level files.
+ * <p>
+ * A level file is a text file made of header lines followed by the grid:
+ * <pre>
+ * # comment
+ * supplies 6              number of supplies to collect
+ * range 0 120             travel range of the next movable object, in grid order
+ * tile 1 desert_platform_block
+ *                         entity type placed for a grid character; '0' is always empty space
+ * grid                    every following line is one row of the map
+ * 0000111000...
+ * </pre>
+ * The file is read line by line, so the size of a level is only limited by the memory of the parsed grid.
+ */
+public class LevelParser {
+    private static final char EMPTY = '0'; // Grid character for empty space
+    private static final int PALETTE_SIZE = 128; // Grid characters are ASCII
+
+    /**
+     * Parses a level file.
+     *
+     * @param stream The level file; it is not closed.
+     * @return The parsed level.
+     * @throws IOException           If the file cannot be read.
+     * @throws IllegalStateException If the file is malformed.
+     */
+    public static LevelData parse(InputStream stream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        int supplies = 0;
+        List<int[]> ranges = new ArrayList<>();
+        String[] palette = new String[PALETTE_SIZE];
+        List<String> rows = new ArrayList<>();
+
+        // Header
+        String line;
+        int lineNumber = 0;
+        boolean inGrid = false;
+        while (!inGrid && (line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            switch (fields[0]) {
+                case "supplies" -> supplies = parseInt(fields, 1, lineNumber);
+                case "range" -> ranges.add(new int[]{parseInt(fields, 1, lineNumber), parseInt(fields, 2, lineNumber)});
+                case "tile" -> {
+                    if (fields.length != 3 || fields[1].length() != 1 || fields[1].charAt(0) >= PALETTE_SIZE || fields[1].charAt(0) == EMPTY) {
+                        throw new IllegalStateException("Invalid tile definition at line " + lineNumber + ": " + line);
+                    }
+                    palette[fields[1].charAt(0)] = fields[2];
+                }
+                case "grid" -> inGrid = true;
+                default -> throw new IllegalStateException("Unexpected header at line " + lineNumber + ": " + line);
+            }
+        }
+        if (!inGrid) {
+            throw new IllegalStateException("Level has no grid.");
+        }
+
+        // Grid
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+            for (int j = 0; j < line.length(); j++) {
+                char c = line.charAt(j);
+                if (c != EMPTY && (c >= PALETTE_SIZE || palette[c] == null)) {
+                    throw new IllegalStateException("Unexpected character '" + c + "' at line " + lineNumber);
+                }
+            }
+            if (!rows.isEmpty() && line.length() != rows.get(0).length()) {
+                throw new IllegalStateException("Row at line " + lineNumber + " has " + line.length()
+                        + " columns, expected " + rows.get(0).length());
+            }
+            rows.add(line);
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("Level grid is empty.");
+        }
+        return new LevelData(rows.toArray(new String[0]), supplies, ranges, palette);
+    }
+
+    /**
+     * Reads an integer field of a header line.
+     */
+    private static int parseInt(String[] fields, int index, int lineNumber) {
+        if (index >= fields.length) {
+            throw new IllegalStateException("Missing value at line " + lineNumber);
+        }
+        try {
+            return Integer.parseInt(fields[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid number at line " + lineNumber + ": " + fields[index]);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.platformer.escape_beyond.utils;
+
+import com.platformer.escape_beyond.Main;
+import com.platformer.escape_beyond.manager.LogManager;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Objects;
+
+/**
+ * Utility class for loading images at the size they are drawn at.
+ * <p>
+ * Much of the game art is full resolution while it is shown as 20-250px sprites. Decoding it at the
+ * requested size avoids keeping megapixel images in memory, and the scaled result is written to an
+ * on-disk cache on first run, so later launches read a small pre-scaled PNG instead of decoding the
+ * original again.
+ * <p>
+ * Cached variants are named after the source path, the target size and the source length, so a
+ * changed source image produces a new variant.
+ */
+public class SpriteVariantCache {
+    private static final File CACHE_DIRECTORY = new File(System.getProperty("user.home"), ".escape_beyond/sprites"); // Where variants are stored
+
+    /**
+     * Loads an image scaled to the given size, from the variant cache when possible.
+     *
+     * @param url    The resource path of the source image.
+     * @param width  The width the image is drawn at.
+     * @param height The height the image is drawn at.
+     * @return The scaled {@code Image}.
+     */
+    public static Image load(String url, int width, int height) {
+        URL resource = Objects.requireNonNull(Main.class.getResource(url), "Image not found: " + url);
+        File variant = getVariantFile(url, resource, width, height);
+
+        if (variant != null && variant.isFile()) {
+            try (InputStream stream = new FileInputStream(variant)) {
+                Image image = new Image(stream);
+                if (!image.isError() && image.getWidth() == width && image.getHeight() == height) {
+                    return image;
+                }
+            } catch (IOException e) {
+                LogManager.getInstance().warn("sprite_variant_read_failed", "file", variant.getPath(), "error", e.getMessage());
+            }
+        }
+
+        // No usable variant: decode the source at the requested size and store the result
+        Image image;
+        try (InputStream stream = resource.openStream()) {
+            image = new Image(stream, width, height, false, true);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load image: " + url, e);
+        }
+        if (variant != null) {
+            store(image, variant);
+        }
+        return image;
+    }
+
+    /**
+     * Returns the file holding the variant of a source image, or {@code null} if the source cannot be identified.
+     */
+    private static File getVariantFile(String url, URL resource, int width, int height) {
+        long length;
+        try {
+            URLConnection connection = resource.openConnection();
+            length = connection.getContentLengthLong();
+            connection.getInputStream().close();
+        } catch (IOException e) {
+            return null;
+        }
+        if (length < 0) {
+            return null;
+        }
+        String name = url.replaceAll("^/+", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        return new File(CACHE_DIRECTORY, name + "_" + width + "x" + height + "_" + length + ".png");
+    }
+
+    /**
+     * Writes an image to the variant cache. Failures are reported and otherwise ignored.
+     */
+    private static void store(Image image, File file) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        if (image.isError() || width <= 0 || height <= 0) {
+            return;
+        }
+        int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        BufferedImage buffered = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        buffered.setRGB(0, 0, width, height, pixels, 0, width);
+
+        File parent = file.getParentFile();
+        File temporary = new File(parent, file.getName() + ".tmp");
+        try {
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Cannot create " + parent);
+            }
+            ImageIO.write(buffered, "png", temporary);
+            if (!temporary.renameTo(file)) {
+                throw new IOException("Cannot rename " + temporary);
+            }
+        } catch (IOException e) {
+            LogManager.getInstance().warn("sprite_variant_store_failed", "file", file.getPath(), "error", e.getMessage());
+            temporary.delete();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.platformer.escape_beyond.view;
+
+import javafx.scene.Node;
+
+/**
+ * A horizontal camera over the game world.
+ * <p>
+ * Entities keep their world coordinates; scrolling is done by translating the node holding the
+ * whole world (the game root) by the camera position, so the cost of a scroll does not depend
+ * on the number of entities in the level.
+ */
+public class Camera {
+    private final Node world; // The node holding every world entity
+    private double x; // World x-coordinate shown at the left edge of the screen
+    private double previousX; // Camera position before the last tick, used to interpolate rendering
+
+    /**
+     * Constructs a camera at the start of the level.
+     *
+     * @param world The node holding every world entity, translated when the camera moves.
+     */
+    public Camera(Node world) {
+        this.world = world;
+        world.setTranslateX(0);
+    }
+
+    /**
+     * Moves the camera horizontally.
+     *
+     * @param x The world x-coordinate to show at the left edge of the screen.
+     */
+    public void moveTo(double x) {
+        this.x = x;
+    }
+
+    /**
+     * Remembers the current position as the position before the next tick.
+     */
+    public void savePrevious() {
+        previousX = x;
+    }
+
+    /**
+     * Applies the camera position, interpolated between the last two ticks, to the world node.
+     *
+     * @param alpha The fraction of a tick elapsed since the last tick, from 0 to 1.
+     */
+    public void apply(double alpha) {
+        double translateX = -getInterpolatedX(alpha);
+        if (world.getTranslateX() != translateX) {
+            world.setTranslateX(translateX);
+        }
+    }
+
+    /**
+     * Returns the camera position between its previous and current position, as applied by {@link #apply(double)}.
+     *
+     * @param alpha The fraction of a tick elapsed since the last tick, from 0 to 1.
+     * @return The world x-coordinate shown at the left edge of the screen.
+     */
+    public double getInterpolatedX(double alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    // Getters
+    public double getX() {
+        return x;
+    }
+}
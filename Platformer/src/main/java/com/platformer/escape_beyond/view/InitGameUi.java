@@ -1,6 +1,7 @@
 package com.platformer.escape_beyond.view;
 
 import com.platformer.escape_beyond.manager.GameManager;
+import com.platformer.escape_beyond.manager.LogManager;
 import com.platformer.escape_beyond.manager.SceneManager;
 import com.platformer.escape_beyond.manager.TimeManager;
 import javafx.geometry.Pos;
@@ -18,7 +19,7 @@ import static com.platformer.escape_beyond.utils.Counter.startCountdown;
  * Utility class to initialize and manage the in-game UI.
  * <p>
  * This class sets up the UI elements such as the timer label and the exit button,
- * arranges them in a container, and adds them to the root UI node.
+ * arranges them in a container, and adds them to the root UI node, along with the frame profiler overlay.
  */
 public class InitGameUi {
     private static final Label timeLabel = TimeManager.getInstance().getTimerLabel();
@@ -52,7 +53,7 @@ public class InitGameUi {
 
         // Set callback for the exit button
         exitButton.setOnAction(event -> {
-            System.out.println("Exiting game...");
+            LogManager.getInstance().info("game_quit");
             try {
                 GameManager.getInstance().quitGame();
             } catch (IOException e) {
@@ -81,6 +82,9 @@ public class InitGameUi {
         // Add the UI container to the root UI node
         SceneManager.getInstance().getUiRoot().getChildren().add(uiContainer);
 
+        // Add the profiler overlay above the game UI, shown with F3
+        SceneManager.getInstance().getUiRoot().getChildren().add(TimeManager.getInstance().getProfilerOverlay().getNode());
+
         // Start the countdown timer
         startCountdown(timeLabel);
     }
@@ -0,0 +1,50 @@
+package com.platformer.escape_beyond.view;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+/**
+ * The loading indicator shown while a level is loaded.
+ * <p>
+ * Displays the current loading stage and a progress bar bound to the loading task.
+ */
+public class LoadingView {
+    private final VBox root; // Holds the label and the progress bar
+
+    /**
+     * Constructs a loading indicator following the given task.
+     *
+     * @param task The loading task whose message and progress are displayed.
+     */
+    public LoadingView(Task<?> task) {
+        Label label = new Label();
+        label.textProperty().bind(task.messageProperty());
+        label.setTextFill(Color.BLACK);
+        label.setStyle("-fx-font-size: 24px;");
+
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(400);
+        progressBar.progressProperty().bind(task.progressProperty());
+
+        root = new VBox();
+        root.setSpacing(10);
+        root.setAlignment(Pos.CENTER);
+        root.setPrefWidth(1280); // Game width
+        root.setPrefHeight(720); // Game height
+        root.getChildren().addAll(label, progressBar);
+    }
+
+    /**
+     * Returns the node to add to the scene.
+     *
+     * @return The root node of the loading indicator.
+     */
+    public Node getRoot() {
+        return root;
+    }
+}
@@ -1,59 +1,45 @@
 package com.platformer.escape_beyond.view;
 
+import com.platformer.escape_beyond.manager.TextureManager;
 import com.platformer.escape_beyond.model.game.PlayerModel;
-import com.platformer.escape_beyond.pattern.Observer;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 
-import java.util.Objects;
-
 /**
  * The {@code PlayerView} class represents the visual representation of the player character in the game.
  * <p>
- * It observes the {@code PlayerModel} to dynamically update the player's position in the view whenever the model changes.
+ * The node is positioned once per frame by {@link #render(double, double)}, at the position of the
+ * {@code PlayerModel} interpolated between the last two ticks, rather than on every change of the model.
  * This class also handles the initialization and mirroring of the player character.
- * <p>
- * Implements the Observer Pattern for syncing with the {@code PlayerModel}.
  */
-public class PlayerView implements Observer {
+public class PlayerView {
     private final ImageView playerImageView; // Displays the player's image.
     private final Pane paneRoot; // The root pane where the player is rendered.
-    private final PlayerModel playerModel;
-    private static final double SCALED_WIDTH = 25; // Scaled width of the player character.
-    private static final double SCALED_HEIGHT = 50; // Scaled height of the player character.
+    private static final double SCALED_WIDTH = PlayerModel.WIDTH; // Scaled width of the player character.
+    private static final double SCALED_HEIGHT = PlayerModel.HEIGHT; // Scaled height of the player character.
 
     /**
-     * Constructs a {@code PlayerView} object that observes the {@code PlayerModel} and renders the player in the given pane.
+     * Constructs a {@code PlayerView} object that renders the player in the given pane.
      *
-     * @param root        The pane in which the player view will be rendered.
-     * @param playerModel The player's model containing the player's state and coordinates.
-     * @param index       The index of the character image to load.
+     * @param root  The pane in which the player view will be rendered.
+     * @param index The index of the character image to load.
      */
-    public PlayerView(Pane root, PlayerModel playerModel, int index) {
-        this.playerModel = playerModel;
-        this.playerModel.attach(this); // Attach the PlayerView as an observer to the PlayerModel.
+    public PlayerView(Pane root, int index) {
         this.paneRoot = root;
         this.playerImageView = initPlayer(0, 600, index); // Initialize the player view at position (0, 600).
     }
 
     /**
-     * Updates the player's view to match the current state of the {@code PlayerModel}.
+     * Draws the player character at the given world position, e.g. a position interpolated between two ticks.
      * <p>
-     * This method is triggered whenever the model notifies its observers of a change.
-     */
-    public void update() {
-        drawCharacter((int) playerModel.getX(), (int) playerModel.getY());
-    }
-
-    /**
-     * Draws the player character at the specified coordinates.
+     * The position is not rounded, so that the player moves smoothly with the camera.
      *
-     * @param x The x-coordinate where the player will be rendered.
-     * @param y The y-coordinate where the player will be rendered.
+     * @param x The x-coordinate in the world.
+     * @param y The y-coordinate in the world.
      */
-    private void drawCharacter(int x, int y) {
+    public void render(double x, double y) {
         playerImageView.setTranslateX(x);
         playerImageView.setTranslateY(y);
     }
@@ -80,9 +66,7 @@ public class PlayerView implements Observer {
     public ImageView initPlayer(int x, int y, int index) {
         // Load the character image based on the index.
         String url = "/images/7_Option/character/Character" + index + ".png";
-        Image characterImage = new Image(Objects.requireNonNull(
-                getClass().getResourceAsStream(url))
-        );
+        Image characterImage = TextureManager.getInstance().acquireForLevel(url, (int) SCALED_WIDTH, (int) SCALED_HEIGHT);
 
         ImageView imageView = new ImageView(characterImage);
         imageView.setFitWidth(SCALED_WIDTH);
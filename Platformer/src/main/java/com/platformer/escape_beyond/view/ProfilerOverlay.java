@@ -0,0 +1,64 @@
+package com.platformer.escape_beyond.view;
+
+import com.platformer.escape_beyond.manager.ProfilerManager;
+import javafx.scene.control.Label;
+
+/**
+ * An overlay showing the frame rate, the frame times and the entity counts recorded by the {@link ProfilerManager}.
+ * <p>
+ * The overlay is shown or hidden with F3 and refreshed by the game loop at the end of every frame. Its text is only
+ * rebuilt every {@link #REFRESH_FRAMES} frames while it is shown, so a hidden overlay costs nothing.
+ */
+public class ProfilerOverlay {
+    private static final int REFRESH_FRAMES = 15; // Frames between two updates of the text
+    private static final double MILLIS = 1e6; // Nanoseconds per millisecond
+
+    private final ProfilerManager profiler = ProfilerManager.getInstance();
+    private final Label label = new Label(); // Shows the statistics
+    private int framesSinceRefresh = REFRESH_FRAMES; // Frames since the text was last updated
+
+    /**
+     * Constructs the overlay, hidden until the profiler is toggled on.
+     */
+    public ProfilerOverlay() {
+        label.setLayoutX(10);
+        label.setLayoutY(100);
+        label.setStyle("-fx-font-family: monospace; -fx-font-size: 14px; -fx-text-fill: white; -fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6px;");
+        label.setMouseTransparent(true); // never takes clicks from the game UI
+        label.setVisible(false);
+    }
+
+    /**
+     * Shows or hides the overlay as the profiler requests, and updates the statistics every few frames while it is shown.
+     */
+    public void refresh() {
+        boolean visible = profiler.isOverlayVisible();
+        if (label.isVisible() != visible) {
+            label.setVisible(visible);
+            framesSinceRefresh = REFRESH_FRAMES; // show fresh numbers at once
+        }
+        if (!visible || ++framesSinceRefresh < REFRESH_FRAMES) {
+            return;
+        }
+        framesSinceRefresh = 0;
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("FPS %.0f   frame p50 %.1f ms   p99 %.1f ms%n", profiler.getFps(),
+                profiler.getFrameTimePercentile(50) / MILLIS, profiler.getFrameTimePercentile(99) / MILLIS));
+        for (ProfilerManager.Phase phase : ProfilerManager.Phase.values()) {
+            text.append(String.format("%-9s %.3f ms%n", phase.name().toLowerCase(), profiler.getAveragePhaseNanos(phase) / MILLIS));
+        }
+        text.append(String.format("bodies %d   movers %d   nodes %d%nF4: dump frames to CSV", profiler.getLastBodyCount(),
+                profiler.getLastMoverCount(), profiler.getLastNodeCount()));
+        label.setText(text.toString());
+    }
+
+    /**
+     * Gets the node of the overlay, to be added to the UI root.
+     *
+     * @return The overlay's node.
+     */
+    public Label getNode() {
+        return label;
+    }
+}
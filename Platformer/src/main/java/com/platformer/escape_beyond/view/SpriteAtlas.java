@@ -0,0 +1,124 @@
+package com.platformer.escape_beyond.view;
+
+import com.platformer.escape_beyond.utils.SpriteVariantCache;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A single image holding many sprites, each referenced by a sub-rectangle.
+ * <p>
+ * Nodes showing sprites of the same atlas share one texture and select their sprite with
+ * {@link javafx.scene.image.ImageView#setViewport(Rectangle2D)}. Sprites are decoded at the size
+ * they are drawn at and packed in rows ("shelves"), tallest first.
+ */
+public class SpriteAtlas {
+    private static final int MAX_WIDTH = 512; // Width of the atlas image
+    private static final int PADDING = 1; // Gap between sprites, so smoothing does not bleed into neighbours
+
+    private final Image image; // The packed image
+    private final HashMap<String, Rectangle2D> regions; // Sub-rectangle of each sprite, by key
+
+    /**
+     * A sprite to be packed into an atlas.
+     */
+    public static class Sprite {
+        public final String key; // The key the sprite is looked up by
+        public final String url; // The resource path of the source image
+        public final int width; // The width the sprite is drawn at
+        public final int height; // The height the sprite is drawn at
+
+        /**
+         * Constructs a sprite description.
+         *
+         * @param key    The key the sprite is looked up by.
+         * @param url    The resource path of the source image.
+         * @param width  The width the sprite is drawn at.
+         * @param height The height the sprite is drawn at.
+         */
+        public Sprite(String key, String url, int width, int height) {
+            this.key = key;
+            this.url = url;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    private SpriteAtlas(Image image, HashMap<String, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Decodes the given sprites and packs them into a new atlas.
+     *
+     * @param sprites The sprites to pack; keys must be unique.
+     * @return The packed atlas.
+     */
+    public static SpriteAtlas pack(List<Sprite> sprites) {
+        List<Sprite> sorted = new ArrayList<>(sprites);
+        sorted.sort(Comparator.comparingInt((Sprite sprite) -> sprite.height).reversed());
+
+        // Place the sprites on shelves from left to right, opening a new shelf when a row is full
+        HashMap<String, Rectangle2D> regions = new HashMap<>();
+        int x = PADDING;
+        int y = PADDING;
+        int shelfHeight = 0;
+        int width = 0;
+        for (Sprite sprite : sorted) {
+            if (x + sprite.width + PADDING > MAX_WIDTH && x > PADDING) {
+                x = PADDING;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            regions.put(sprite.key, new Rectangle2D(x, y, sprite.width, sprite.height));
+            x += sprite.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, sprite.height);
+            width = Math.max(width, x);
+        }
+        int height = y + shelfHeight + PADDING;
+
+        // Copy every sprite into its rectangle
+        WritableImage atlas = new WritableImage(Math.max(1, width), Math.max(1, height));
+        PixelWriter writer = atlas.getPixelWriter();
+        for (Sprite sprite : sorted) {
+            Rectangle2D region = regions.get(sprite.key);
+            Image source = load(sprite);
+            writer.setPixels((int) region.getMinX(), (int) region.getMinY(), sprite.width, sprite.height,
+                    source.getPixelReader(), 0, 0);
+        }
+        return new SpriteAtlas(atlas, regions);
+    }
+
+    /**
+     * Returns the packed image shared by all sprites of the atlas.
+     *
+     * @return The atlas image.
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the sub-rectangle of a sprite.
+     *
+     * @param key The key of the sprite.
+     * @return The sprite's rectangle in the atlas image, or {@code null} if the atlas has no such sprite.
+     */
+    public Rectangle2D getRegion(String key) {
+        return regions.get(key);
+    }
+
+    /**
+     * Decodes a sprite at the size it is drawn at.
+     */
+    private static Image load(Sprite sprite) {
+        return SpriteVariantCache.load(sprite.url, sprite.width, sprite.height);
+    }
+}
@@ -0,0 +1,146 @@
+package com.platformer.escape_beyond.view;
+
+import com.platformer.escape_beyond.model.entity.block.Entity;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.List;
+
+/**
+ * Bakes tiles that never change during play into one bitmap.
+ * <p>
+ * The tiles are composited in the order given, each scaled to its entity size with nearest-neighbour
+ * sampling. Tiles from the sprite atlas or the texture cache are already decoded at the size they are
+ * drawn at, so they look the same as the individual {@code ImageView}s they replace; a tile whose image
+ * had to be scaled would look slightly sharper than a smoothed {@code ImageView}. Pixels are copied
+ * directly, so baking needs neither the JavaFX thread nor a scene and can run on a background thread.
+ */
+public final class StaticLayerBaker {
+
+    private StaticLayerBaker() {
+    }
+
+    /**
+     * A baked bitmap and the world position of its top-left corner.
+     */
+    public static final class Bitmap {
+        private final WritableImage image; // The composited tiles
+        private final int x; // World x-coordinate of the left edge
+        private final int y; // World y-coordinate of the top edge
+
+        private Bitmap(WritableImage image, int x, int y) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+        }
+
+        // Getters
+        public WritableImage getImage() {
+            return image;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+    }
+
+    /**
+     * Checks whether the pixels of a tile's image can be read, i.e. whether the tile can be baked.
+     *
+     * @param tile The tile to check.
+     * @return {@code true} if the tile's image is loaded and readable.
+     */
+    public static boolean canBake(Entity tile) {
+        Image image = tile.getImage();
+        return image != null && !image.isError() && image.getPixelReader() != null && tile.getWidth() > 0 && tile.getHeight() > 0;
+    }
+
+    /**
+     * Composites tiles into a bitmap covering their combined bounds.
+     *
+     * @param tiles The tiles to bake, in drawing order; each must pass {@link #canBake(Entity)}.
+     * @return The baked bitmap, or {@code null} if there are no tiles.
+     */
+    public static Bitmap bake(List<Entity> tiles) {
+        if (tiles.isEmpty()) {
+            return null;
+        }
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (Entity tile : tiles) {
+            minX = Math.min(minX, tile.getX());
+            minY = Math.min(minY, tile.getY());
+            maxX = Math.max(maxX, tile.getX() + tile.getWidth());
+            maxY = Math.max(maxY, tile.getY() + tile.getHeight());
+        }
+        int width = maxX - minX;
+        int height = maxY - minY;
+
+        int[] target = new int[width * height];
+        for (Entity tile : tiles) {
+            draw(tile, target, width, tile.getX() - minX, tile.getY() - minY);
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), target, 0, width);
+        return new Bitmap(image, minX, minY);
+    }
+
+    /**
+     * Draws a tile over the target pixels, sampling its source region at the tile's size.
+     */
+    private static void draw(Entity tile, int[] target, int targetWidth, int left, int top) {
+        Image image = tile.getImage();
+        Rectangle2D viewport = tile.getViewport();
+        int sourceX = viewport == null ? 0 : (int) viewport.getMinX();
+        int sourceY = viewport == null ? 0 : (int) viewport.getMinY();
+        int sourceWidth = viewport == null ? (int) image.getWidth() : (int) viewport.getWidth();
+        int sourceHeight = viewport == null ? (int) image.getHeight() : (int) viewport.getHeight();
+        if (sourceWidth <= 0 || sourceHeight <= 0) {
+            return;
+        }
+
+        int[] source = new int[sourceWidth * sourceHeight];
+        PixelReader reader = image.getPixelReader();
+        reader.getPixels(sourceX, sourceY, sourceWidth, sourceHeight, PixelFormat.getIntArgbInstance(), source, 0, sourceWidth);
+
+        int width = tile.getWidth();
+        int height = tile.getHeight();
+        for (int y = 0; y < height; y++) {
+            int sourceRow = (int) ((long) y * sourceHeight / height) * sourceWidth;
+            int targetRow = (top + y) * targetWidth + left;
+            for (int x = 0; x < width; x++) {
+                int pixel = source[sourceRow + (int) ((long) x * sourceWidth / width)];
+                target[targetRow + x] = blend(pixel, target[targetRow + x]);
+            }
+        }
+    }
+
+    /**
+     * Composites a non-premultiplied ARGB pixel over another.
+     */
+    private static int blend(int source, int destination) {
+        int sourceAlpha = source >>> 24;
+        if (sourceAlpha == 255) {
+            return source;
+        }
+        if (sourceAlpha == 0) {
+            return destination;
+        }
+        int destinationAlpha = (destination >>> 24) * (255 - sourceAlpha) / 255;
+        int alpha = sourceAlpha + destinationAlpha;
+        int red = (((source >> 16) & 0xFF) * sourceAlpha + ((destination >> 16) & 0xFF) * destinationAlpha) / alpha;
+        int green = (((source >> 8) & 0xFF) * sourceAlpha + ((destination >> 8) & 0xFF) * destinationAlpha) / alpha;
+        int blue = ((source & 0xFF) * sourceAlpha + (destination & 0xFF) * destinationAlpha) / alpha;
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+}
@@ -0,0 +1,129 @@
+package com.platformer.escape_beyond.view;
+
+import com.platformer.escape_beyond.model.entity.block.Entity;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.Arrays;
+
+/**
+ * Paints the static tiles of a level onto a single screen-sized {@link Canvas}.
+ * <p>
+ * Used instead of one {@code ImageView} per tile when the game runs with
+ * {@link com.platformer.escape_beyond.model.game.RenderMode#CANVAS}. The canvas lives in the world
+ * layer, so it scrolls with the camera; it is moved back to the left edge of the screen and repainted
+ * only when the camera has moved. Tiles are grouped into chunks of {@link WorldView#CHUNK_WIDTH}
+ * pixels, so a repaint only visits the tiles near the screen.
+ */
+public class TileCanvas {
+    private final Canvas canvas; // The surface the tiles are painted on
+    private final double width; // Width of the canvas, the width of the screen
+    private final double height; // Height of the canvas, the height of the screen
+
+    private Entity[][] chunks = new Entity[0][]; // Tiles of each chunk
+    private int[] chunkSizes = new int[0]; // Number of tiles in each chunk
+    private int tileCount; // Number of tiles added
+    private double maxTileWidth; // Width of the widest tile, how far a tile can reach into the next chunk
+    private double paintedX = Double.NaN; // Camera position of the last repaint; NaN when a repaint is due
+
+    /**
+     * Constructs an empty tile canvas.
+     *
+     * @param width  The width of the screen.
+     * @param height The height of the screen.
+     */
+    public TileCanvas(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Adds a tile to be painted from the next repaint on.
+     *
+     * @param tile The entity giving the tile's image, position and size.
+     */
+    public void add(Entity tile) {
+        int chunk = Math.max(0, tile.getX() / WorldView.CHUNK_WIDTH);
+        if (chunk >= chunks.length) {
+            int capacity = Math.max(chunk + 1, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, capacity);
+            chunkSizes = Arrays.copyOf(chunkSizes, capacity);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Entity[16];
+        } else if (chunkSizes[chunk] == chunks[chunk].length) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], chunkSizes[chunk] * 2);
+        }
+        chunks[chunk][chunkSizes[chunk]++] = tile;
+        tileCount++;
+        maxTileWidth = Math.max(maxTileWidth, tile.getWidth());
+        paintedX = Double.NaN;
+    }
+
+    /**
+     * Repaints the tiles on screen if the camera has moved since the last repaint.
+     *
+     * @param viewMinX The world x-coordinate at the left edge of the screen.
+     */
+    public void paint(double viewMinX) {
+        if (viewMinX == paintedX) {
+            return;
+        }
+        paintedX = viewMinX;
+        canvas.setTranslateX(viewMinX);
+
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, width, height);
+        double viewMaxX = viewMinX + width;
+        int first = Math.max(0, (int) Math.floor((viewMinX - maxTileWidth) / WorldView.CHUNK_WIDTH));
+        int last = Math.min(chunks.length - 1, (int) Math.floor(viewMaxX / WorldView.CHUNK_WIDTH));
+        for (int chunk = first; chunk <= last; chunk++) {
+            for (int k = 0; k < chunkSizes[chunk]; k++) {
+                Entity tile = chunks[chunk][k];
+                if (tile.getX() + tile.getWidth() < viewMinX || tile.getX() > viewMaxX) {
+                    continue;
+                }
+                double x = tile.getX() - viewMinX;
+                Rectangle2D viewport = tile.getViewport();
+                if (viewport == null) {
+                    graphics.drawImage(tile.getImage(), x, tile.getY(), tile.getWidth(), tile.getHeight());
+                } else {
+                    graphics.drawImage(tile.getImage(), viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                            x, tile.getY(), tile.getWidth(), tile.getHeight());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the canvas the tiles are painted on.
+     *
+     * @return The canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Returns the number of tiles painted by this canvas instead of by their own nodes.
+     *
+     * @return The tile count.
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Removes every tile and clears the canvas.
+     */
+    public void clear() {
+        chunks = new Entity[0][];
+        chunkSizes = new int[0];
+        tileCount = 0;
+        maxTileWidth = 0;
+        paintedX = Double.NaN;
+        canvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+    }
+}
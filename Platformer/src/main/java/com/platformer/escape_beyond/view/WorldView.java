@@ -0,0 +1,553 @@
+package com.platformer.escape_beyond.view;
+
+import com.platformer.escape_beyond.model.entity.block.Entity;
+import com.platformer.escape_beyond.model.game.RenderMode;
+import com.platformer.escape_beyond.model.physics.MoverSystem;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The render side of the {@link PhysicsWorld}.
+ * <p>
+ * The physics world holds every body of the level, but scene-graph nodes only exist for the part
+ * of the level around the camera. Static entities are registered as sprites and grouped into
+ * chunks of {@link #CHUNK_WIDTH} pixels; {@link #update(double, double)} creates the nodes of the
+ * chunks coming near the viewport and releases those left behind, reusing their image views. The
+ * number of nodes in the scene therefore depends on the screen size, not on the width of the level.
+ * <p>
+ * Moving bodies get a node only while they are near the camera: {@link #sync(PhysicsWorld, double)} copies
+ * their positions onto their nodes once per frame, creating the node of a mover coming into view and
+ * releasing the node of one leaving it. Nodes are placed at world coordinates; scrolling is left to the
+ * {@link Camera}. Released views go back to a pool without their image, so they never keep a texture alive.
+ * <p>
+ * Loaded chunks reach past the screen, so their nodes are also culled: nodes more than
+ * {@link #CULL_MARGIN} pixels outside the camera window are hidden, which keeps JavaFX from
+ * rendering them.
+ * <p>
+ * Tiles that never change during play can be drawn without a node each: in {@link RenderMode#BAKED}
+ * mode the tiles of each chunk are baked into one bitmap by the {@link StaticLayerBaker}, and the chunk
+ * streams in as a single node; in {@link RenderMode#CANVAS} mode they are painted onto a {@link TileCanvas}.
+ * Either way, only pickups and movers keep nodes of their own. The chunks the level starts on are baked while it
+ * loads; the others are baked on a background thread {@link #BAKE_AHEAD} chunk ahead of the loaded ones, and the
+ * JavaFX thread only swaps the finished bitmaps in. Only the last {@link #MAX_BAKED_CHUNKS} bitmaps are kept, so
+ * baking does not make memory grow with the width of the level.
+ */
+public class WorldView {
+    public static final int CHUNK_WIDTH = 16 * 60; // Width of a chunk in pixels (16 map tiles)
+    private static final int LOAD_MARGIN = 1; // Chunks kept loaded on each side of the viewport
+    public static final int CULL_MARGIN = 120; // Pixels outside the screen within which nodes stay visible
+    private static final int SCREEN_WIDTH = 1280; // Width of the tile canvas
+    private static final int SCREEN_HEIGHT = 720; // Height of the tile canvas
+    private static final int BAKE_AHEAD = 1; // Chunks baked in advance on each side of the loaded ones
+    public static final int MAX_BAKED_CHUNKS = 10; // Baked bitmaps kept, more than the chunks loaded or baked ahead at once
+    private static final int PREBAKED_CHUNKS = SCREEN_WIDTH / CHUNK_WIDTH + 1 + LOAD_MARGIN; // Chunks loaded at the start of a level
+
+    private final Pane layer = new Pane(); // Holds every world node, drawn below the player
+
+    private Node[] nodes = new Node[256]; // Node drawing each body, indexed by body id
+    private Entity[] sprites = new Entity[256]; // Sprite of each streamed body, indexed by body id
+
+    private int[] dynamicIds = new int[8]; // Moving bodies, whose nodes follow their position every frame
+    private int dynamicCount; // Number of entries in dynamicIds
+
+    private int[][] chunks = new int[0][]; // Body ids of the sprites in each chunk
+    private int[] chunkSizes = new int[0]; // Number of ids in each chunk
+    private int firstLoaded = 0; // First loaded chunk
+    private int lastLoaded = -1; // Last loaded chunk; nothing is loaded while it is below firstLoaded
+    private double visibleMinX = Double.NEGATIVE_INFINITY; // Left edge of the area whose nodes are visible
+    private double visibleMaxX = Double.POSITIVE_INFINITY; // Right edge of the area whose nodes are visible
+
+    private final ArrayDeque<ImageView> pool = new ArrayDeque<>(); // Released views, reused for new sprites
+    private RenderMode renderMode = RenderMode.NODES; // How tiles are drawn
+    private TileCanvas tileCanvas; // Paints the tiles in CANVAS mode; null otherwise
+    private boolean[] bakeable = new boolean[256]; // Whether each body is a tile to bake, indexed by body id
+    private Entity[][] bakedTiles = new Entity[0][]; // Tiles of each chunk drawn by its baked bitmap, or null
+    private final Map<Integer, StaticLayerBaker.Bitmap> bakedChunks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, StaticLayerBaker.Bitmap> eldest) {
+            return size() > MAX_BAKED_CHUNKS;
+        }
+    }; // Baked bitmaps of the recently loaded chunks, least recently used first; used on the JavaFX thread
+    private final Set<Integer> pendingBakes = new HashSet<>(); // Chunks being baked in the background
+    private int bakeGeneration; // Incremented for every level, so bitmaps baked for the previous one are dropped
+    private static final ExecutorService baker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tile-baker");
+        thread.setDaemon(true);
+        return thread;
+    }); // Bakes the chunks ahead of the camera
+    private ImageView[] bakedViews = new ImageView[0]; // Node showing each loaded baked chunk
+
+    /**
+     * Chooses how the tiles added from now on are drawn. Called before a level is loaded.
+     *
+     * @param mode The render mode of the game.
+     */
+    public void setRenderMode(RenderMode mode) {
+        renderMode = mode;
+        if (mode == RenderMode.CANVAS && tileCanvas == null) {
+            tileCanvas = new TileCanvas(SCREEN_WIDTH, SCREEN_HEIGHT);
+            layer.getChildren().add(0, tileCanvas.getCanvas());
+        } else if (mode != RenderMode.CANVAS && tileCanvas != null) {
+            layer.getChildren().remove(tileCanvas.getCanvas());
+            tileCanvas = null;
+        }
+    }
+
+    /**
+     * Registers the sprite of a moving body, such as an enemy. Its node only exists while the body is near the camera.
+     *
+     * @param bodyId The body id in the physics world.
+     * @param entity The entity giving the sprite's image and size.
+     */
+    public void addMover(int bodyId, Entity entity) {
+        ensureCapacity(bodyId);
+        sprites[bodyId] = entity;
+        if (dynamicCount == dynamicIds.length) {
+            dynamicIds = Arrays.copyOf(dynamicIds, dynamicCount * 2);
+        }
+        dynamicIds[dynamicCount++] = bodyId;
+    }
+
+    /**
+     * Registers the sprite of a static body. Its node only exists while its chunk is near the viewport.
+     *
+     * @param bodyId The body id in the physics world.
+     * @param entity The entity giving the sprite's image, position and size.
+     */
+    public void addSprite(int bodyId, Entity entity) {
+        ensureCapacity(bodyId);
+        sprites[bodyId] = entity;
+
+        int chunk = Math.max(0, entity.getX() / CHUNK_WIDTH);
+        if (chunk >= chunks.length) {
+            int capacity = Math.max(chunk + 1, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, capacity);
+            chunkSizes = Arrays.copyOf(chunkSizes, capacity);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new int[16];
+        } else if (chunkSizes[chunk] == chunks[chunk].length) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], chunkSizes[chunk] * 2);
+        }
+        chunks[chunk][chunkSizes[chunk]++] = bodyId;
+
+        if (chunk >= firstLoaded && chunk <= lastLoaded) {
+            materialize(bodyId); // the chunk is already on screen
+        }
+    }
+
+    /**
+     * Registers a tile that never changes during play, such as a platform. It is painted on the tile canvas
+     * in {@link RenderMode#CANVAS} mode and streamed as a sprite otherwise; in {@link RenderMode#BAKED} mode
+     * the sprite is drawn by its chunk's bitmap once {@link #bakeTiles()} has run.
+     *
+     * @param bodyId The body id in the physics world.
+     * @param entity The entity giving the tile's image, position and size.
+     */
+    public void addTile(int bodyId, Entity entity) {
+        if (tileCanvas != null) {
+            tileCanvas.add(entity);
+        } else {
+            addSprite(bodyId, entity);
+            bakeable[bodyId] = renderMode == RenderMode.BAKED;
+        }
+    }
+
+    /**
+     * Sets aside the tiles of each chunk to be drawn by one baked bitmap, and bakes the chunks the level starts on.
+     * Called once all entities of the level have been added; does nothing unless the render mode is
+     * {@link RenderMode#BAKED}. The other chunks are baked when they stream in.
+     * <p>
+     * Tiles whose image cannot be read stay individual sprites.
+     */
+    public void bakeTiles() {
+        if (renderMode != RenderMode.BAKED) {
+            return;
+        }
+        bakedTiles = new Entity[chunks.length][];
+        bakedChunks.clear();
+        pendingBakes.clear();
+        bakeGeneration++;
+        bakedViews = new ImageView[chunks.length];
+        List<Entity> tiles = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            if (chunks[chunk] == null) {
+                continue;
+            }
+            tiles.clear();
+            int kept = 0;
+            for (int k = 0; k < chunkSizes[chunk]; k++) {
+                int bodyId = chunks[chunk][k];
+                Entity entity = sprites[bodyId];
+                if (bakeable[bodyId] && entity != null && StaticLayerBaker.canBake(entity)) {
+                    release(bodyId);
+                    sprites[bodyId] = null;
+                    tiles.add(entity);
+                } else {
+                    chunks[chunk][kept++] = bodyId; // keeps its own node
+                }
+            }
+            chunkSizes[chunk] = kept;
+            if (!tiles.isEmpty()) {
+                bakedTiles[chunk] = tiles.toArray(new Entity[0]);
+            }
+        }
+        for (int chunk = 0; chunk < Math.min(chunks.length, PREBAKED_CHUNKS); chunk++) {
+            if (bakedTiles[chunk] != null) {
+                bakedChunks.put(chunk, StaticLayerBaker.bake(Arrays.asList(bakedTiles[chunk])));
+            }
+        }
+        for (int chunk = firstLoaded; chunk <= lastLoaded; chunk++) {
+            setChunkLoaded(chunk, true);
+        }
+    }
+
+    /**
+     * Removes a body from the view for good, e.g. once a supply has been collected.
+     *
+     * @param bodyId The body id in the physics world.
+     */
+    public void remove(int bodyId) {
+        if (bodyId >= nodes.length) {
+            return;
+        }
+        release(bodyId);
+        sprites[bodyId] = null;
+    }
+
+    /**
+     * Loads the chunks near the viewport, releases the others and hides the sprites outside the camera window.
+     *
+     * @param viewMinX The world x-coordinate at the left edge of the screen.
+     * @param viewMaxX The world x-coordinate at the right edge of the screen.
+     */
+    public void update(double viewMinX, double viewMaxX) {
+        if (tileCanvas != null) {
+            tileCanvas.paint(viewMinX);
+        }
+        double minX = viewMinX - CULL_MARGIN;
+        double maxX = viewMaxX + CULL_MARGIN;
+        if (minX == visibleMinX && maxX == visibleMaxX) {
+            return; // the camera has not moved
+        }
+        visibleMinX = minX;
+        visibleMaxX = maxX;
+
+        int first = Math.max(0, (int) Math.floor(viewMinX / CHUNK_WIDTH) - LOAD_MARGIN);
+        int last = Math.min(chunks.length - 1, (int) Math.floor(viewMaxX / CHUNK_WIDTH) + LOAD_MARGIN);
+        if (first != firstLoaded || last != lastLoaded) {
+            loadChunks(first, last);
+            for (int chunk = Math.max(0, first - BAKE_AHEAD); chunk <= Math.min(bakedTiles.length - 1, last + BAKE_AHEAD); chunk++) {
+                requestBake(chunk);
+            }
+        }
+        for (int chunk = firstLoaded; chunk <= lastLoaded; chunk++) {
+            cullChunk(chunk);
+        }
+    }
+
+    /**
+     * Moves the node of every moving body to the position of its body, interpolated between the last two ticks.
+     * <p>
+     * A body coming near the camera gets a node from the pool, and the node of a body leaving it goes back to the pool.
+     *
+     * @param world The physics world holding the body positions.
+     * @param alpha The fraction of a tick elapsed since the last tick, from 0 to 1.
+     */
+    public void sync(PhysicsWorld world, double alpha) {
+        for (int k = 0; k < dynamicCount; k++) {
+            int id = dynamicIds[k];
+            if (sprites[id] == null) {
+                continue; // removed
+            }
+            double x = world.getInterpolatedMinX(id, alpha);
+            Node node = nodes[id];
+            if (!isInView(x, world.getWidth(id))) {
+                release(id); // created again when it comes back into view
+                continue;
+            }
+            if (node == null) {
+                materialize(id);
+                node = nodes[id];
+                node.setVisible(true);
+            }
+            if (node.getTranslateX() != x) {
+                node.setTranslateX(x);
+            }
+            double y = world.getMinY(id);
+            if (node.getTranslateY() != y) {
+                node.setTranslateY(y);
+            }
+        }
+    }
+
+    /**
+     * Mirrors the nodes of the movers that flip to face the direction they are moving in.
+     *
+     * @param movers The movers of the level.
+     */
+    public void syncFacing(MoverSystem movers) {
+        for (int i = 0; i < movers.size(); i++) {
+            if (!movers.isFlipping(i)) {
+                continue;
+            }
+            Node node = nodes[movers.getBodyId(i)];
+            double scaleX = movers.isMovingRight(i) ? 1 : -1;
+            if (node != null && node.getScaleX() != scaleX) {
+                node.setScaleX(scaleX);
+            }
+        }
+    }
+
+    /**
+     * Returns the layer holding every world node. It is added to the game root below the player.
+     *
+     * @return The world layer.
+     */
+    public Pane getLayer() {
+        return layer;
+    }
+
+    /**
+     * Returns the number of world nodes currently in the scene, visible or not, counting the tile canvas as one.
+     *
+     * @return The resident node count.
+     */
+    public int getResidentNodeCount() {
+        return layer.getChildren().size();
+    }
+
+    /**
+     * Removes every node and sprite.
+     */
+    public void clear() {
+        layer.getChildren().clear();
+        Arrays.fill(bakeable, false);
+        bakedTiles = new Entity[0][];
+        bakedChunks.clear();
+        pendingBakes.clear();
+        bakeGeneration++;
+        bakedViews = new ImageView[0];
+        if (tileCanvas != null) {
+            tileCanvas.clear();
+            layer.getChildren().add(tileCanvas.getCanvas());
+        }
+        Arrays.fill(nodes, null);
+        Arrays.fill(sprites, null);
+        pool.clear(); // the views of the level are not reused by the next one
+        dynamicCount = 0;
+        chunks = new int[0][];
+        chunkSizes = new int[0];
+        firstLoaded = 0;
+        lastLoaded = -1;
+        visibleMinX = Double.NEGATIVE_INFINITY;
+        visibleMaxX = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Shows the sprites of a loaded chunk that lie within the visible area and hides the others.
+     */
+    private void cullChunk(int chunk) {
+        if (chunk < bakedViews.length && bakedViews[chunk] != null) {
+            ImageView view = bakedViews[chunk];
+            boolean visible = isInView(view.getTranslateX(), view.getImage().getWidth());
+            if (view.isVisible() != visible) {
+                view.setVisible(visible);
+            }
+        }
+        if (chunks[chunk] == null) {
+            return;
+        }
+        for (int k = 0; k < chunkSizes[chunk]; k++) {
+            int bodyId = chunks[chunk][k];
+            Node node = nodes[bodyId];
+            if (node == null) {
+                continue;
+            }
+            Entity entity = sprites[bodyId];
+            boolean visible = isInView(entity.getX(), entity.getWidth());
+            if (node.isVisible() != visible) {
+                node.setVisible(visible);
+            }
+        }
+    }
+
+    /**
+     * Releases the loaded chunks outside the given range and loads the missing ones.
+     */
+    private void loadChunks(int first, int last) {
+        for (int chunk = firstLoaded; chunk <= lastLoaded; chunk++) {
+            if (chunk < first || chunk > last) {
+                setChunkLoaded(chunk, false);
+            }
+        }
+        for (int chunk = first; chunk <= last; chunk++) {
+            if (chunk < firstLoaded || chunk > lastLoaded) {
+                setChunkLoaded(chunk, true);
+            }
+        }
+        firstLoaded = first;
+        lastLoaded = last;
+    }
+
+    /**
+     * Creates or releases the nodes of every sprite in a chunk, and of its baked bitmap.
+     */
+    private void setChunkLoaded(int chunk, boolean loaded) {
+        if (chunk < bakedTiles.length && bakedTiles[chunk] != null) {
+            setBakedChunkLoaded(chunk, loaded);
+        }
+        if (chunks[chunk] == null) {
+            return;
+        }
+        for (int k = 0; k < chunkSizes[chunk]; k++) {
+            int bodyId = chunks[chunk][k];
+            if (loaded) {
+                materialize(bodyId);
+            } else {
+                release(bodyId);
+            }
+        }
+    }
+
+    /**
+     * Shows or releases the node of a baked chunk. Baked chunks are drawn below every other world node.
+     * <p>
+     * A chunk whose bitmap is not ready yet is baked in the background and shown once the bitmap is finished.
+     */
+    private void setBakedChunkLoaded(int chunk, boolean loaded) {
+        ImageView imageView = bakedViews[chunk];
+        if (!loaded) {
+            if (imageView != null) {
+                bakedViews[chunk] = null;
+                layer.getChildren().remove(imageView);
+                recycle(imageView);
+            }
+            return;
+        }
+        if (imageView != null) {
+            return; // already on screen
+        }
+        StaticLayerBaker.Bitmap bitmap = bakedChunks.get(chunk);
+        if (bitmap == null) {
+            requestBake(chunk);
+            return;
+        }
+        imageView = pool.isEmpty() ? new ImageView() : pool.pop();
+        imageView.setImage(bitmap.getImage());
+        imageView.setViewport(null);
+        imageView.setFitWidth(bitmap.getImage().getWidth());
+        imageView.setFitHeight(bitmap.getImage().getHeight());
+        imageView.setTranslateX(bitmap.getX());
+        imageView.setTranslateY(bitmap.getY());
+        imageView.setVisible(isInView(bitmap.getX(), bitmap.getImage().getWidth()));
+        bakedViews[chunk] = imageView;
+        layer.getChildren().add(0, imageView);
+    }
+
+    /**
+     * Starts baking a chunk on the background thread, unless it has no tiles to bake, is baked already or is being baked.
+     */
+    private void requestBake(int chunk) {
+        if (bakedTiles[chunk] == null || bakedChunks.containsKey(chunk) || !pendingBakes.add(chunk)) {
+            return;
+        }
+        List<Entity> tiles = Arrays.asList(bakedTiles[chunk]);
+        int generation = bakeGeneration;
+        baker.execute(() -> {
+            StaticLayerBaker.Bitmap bitmap = StaticLayerBaker.bake(tiles);
+            Platform.runLater(() -> bakeFinished(generation, chunk, bitmap));
+        });
+    }
+
+    /**
+     * Keeps a bitmap baked in the background, and shows it if its chunk is loaded. Runs on the JavaFX thread.
+     */
+    private void bakeFinished(int generation, int chunk, StaticLayerBaker.Bitmap bitmap) {
+        if (generation != bakeGeneration) {
+            return; // baked for a level that is gone
+        }
+        pendingBakes.remove(chunk);
+        bakedChunks.put(chunk, bitmap);
+        if (chunk >= firstLoaded && chunk <= lastLoaded) {
+            setBakedChunkLoaded(chunk, true);
+        }
+    }
+
+    /**
+     * Creates the node of a sprite, reusing a released view when possible.
+     */
+    private void materialize(int bodyId) {
+        Entity entity = sprites[bodyId];
+        if (entity == null || nodes[bodyId] != null) {
+            return; // removed, or already on screen
+        }
+        ImageView imageView = pool.isEmpty() ? new ImageView() : pool.pop();
+        imageView.setImage(entity.getImage());
+        imageView.setViewport(entity.getViewport());
+        imageView.setFitWidth(entity.getWidth());
+        imageView.setFitHeight(entity.getHeight());
+        imageView.setTranslateX(entity.getX());
+        imageView.setTranslateY(entity.getY());
+        imageView.setVisible(isInView(entity.getX(), entity.getWidth()));
+        nodes[bodyId] = imageView;
+        layer.getChildren().add(imageView);
+    }
+
+    /**
+     * Removes the node of a sprite from the scene and returns its view to the pool.
+     */
+    private void release(int bodyId) {
+        Node node = nodes[bodyId];
+        if (node == null || sprites[bodyId] == null) {
+            return;
+        }
+        nodes[bodyId] = null;
+        layer.getChildren().remove(node);
+        recycle((ImageView) node);
+    }
+
+    /**
+     * Returns a view removed from the layer to the pool, without its image so that the image can be released,
+     * and without the mirroring of a mover.
+     */
+    private void recycle(ImageView imageView) {
+        imageView.setImage(null);
+        imageView.setViewport(null);
+        imageView.setScaleX(1);
+        pool.push(imageView);
+    }
+
+    /**
+     * Checks whether a horizontal span lies within the visible area.
+     */
+    private boolean isInView(double x, double width) {
+        return x + width >= visibleMinX && x <= visibleMaxX;
+    }
+
+    /**
+     * Grows the per-body arrays so that they can hold the given id.
+     */
+    private void ensureCapacity(int bodyId) {
+        if (bodyId >= nodes.length) {
+            int capacity = Math.max(bodyId + 1, nodes.length * 2);
+            nodes = Arrays.copyOf(nodes, capacity);
+            sprites = Arrays.copyOf(sprites, capacity);
+            bakeable = Arrays.copyOf(bakeable, capacity);
+        }
+    }
+}
@@ -3,6 +3,8 @@ module com.example.platformerplain {
     requires javafx.fxml;
     requires java.logging;
     requires java.desktop;
+    requires java.management;
+    requires jdk.httpserver;
     requires javafx.media;
     requires junit;
     requires org.testng;
@@ -24,14 +26,6 @@ module com.example.platformerplain {
     opens com.platformer.escape_beyond.utils to javafx.fxml, junit;
     exports com.platformer.escape_beyond.view;
     opens com.platformer.escape_beyond.view to javafx.fxml, junit;
-    exports com.platformer.escape_beyond.model.entity.node.movable;
-    opens com.platformer.escape_beyond.model.entity.node.movable to javafx.fxml;
-    exports com.platformer.escape_beyond.model.entity.node.movable.enemy;
-    opens com.platformer.escape_beyond.model.entity.node.movable.enemy to javafx.fxml;
-    exports com.platformer.escape_beyond.model.entity.node.movable.platform;
-    opens com.platformer.escape_beyond.model.entity.node.movable.platform to javafx.fxml;
-    exports com.platformer.escape_beyond.model.entity.node.stationary;
-    opens com.platformer.escape_beyond.model.entity.node.stationary to javafx.fxml;
     exports com.platformer.escape_beyond.model.game;
     opens com.platformer.escape_beyond.model.game to javafx.fxml, junit;
     exports com.platformer.escape_beyond.model.entity.block.platform;
@@ -48,6 +42,12 @@ module com.example.platformerplain {
     opens com.platformer.escape_beyond.model.entity.block.supply to javafx.fxml;
     exports com.platformer.escape_beyond.model.entity.block.player;
     opens com.platformer.escape_beyond.model.entity.block.player to javafx.fxml;
+    exports com.platformer.escape_beyond.model.physics;
+    opens com.platformer.escape_beyond.model.physics to javafx.fxml;
     exports com.platformer.escape_beyond.manager;
     opens com.platformer.escape_beyond.manager to javafx.fxml, junit;
+    exports com.platformer.escape_beyond.input;
+    opens com.platformer.escape_beyond.input to javafx.fxml;
+    exports com.platformer.escape_beyond.metrics;
+    opens com.platformer.escape_beyond.metrics to javafx.fxml;
 }
\ No newline at end of file
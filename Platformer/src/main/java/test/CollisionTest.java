@@ -0,0 +1,117 @@
+package test;
+
+import com.platformer.escape_beyond.input.Action;
+import com.platformer.escape_beyond.input.InputBindings;
+import com.platformer.escape_beyond.input.InputState;
+import com.platformer.escape_beyond.manager.EventManager;
+import com.platformer.escape_beyond.model.game.PlayerModel;
+import com.platformer.escape_beyond.model.physics.PhysicsWorld;
+import com.platformer.escape_beyond.model.physics.PlayerPhysics;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CollisionTest {
+    private static final double DELTA = 1e-9;
+
+    private PhysicsWorld world;
+    private PlayerModel player;
+    private InputState input;
+    private PlayerPhysics physics;
+
+    @Before
+    public void setUp() {
+        world = new PhysicsWorld(60);
+        player = new PlayerModel();
+        input = new InputState(InputBindings.defaults());
+        physics = new PlayerPhysics(player, world, input, new EventManager(), 10000);
+    }
+
+    /**
+     * Places the player at rest, unable to jump until it lands.
+     */
+    private void placePlayer(double x, double y, double velocityY) {
+        player.setX(x);
+        player.setY(y);
+        player.setVelocity(0, velocityY);
+        player.setCanJump(false);
+    }
+
+    private void step(int downMask) {
+        input.replay(downMask);
+        physics.step();
+    }
+
+    @Test
+    public void landingOnPlatformTopTest() {
+        System.out.println("CollisionTest: landing on a platform top");
+        world.addStaticBody(0, 300, 600, 60, PhysicsWorld.SOLID);
+        world.build();
+
+        // falling 8 pixels with 5 left: the player stops on the top of the platform
+        placePlayer(100, 300 - PlayerModel.HEIGHT - 5, 8);
+        step(0);
+        assertEquals(300 - PlayerModel.HEIGHT, player.getY(), DELTA);
+        assertTrue(player.isCanJump());
+
+        // and stays there
+        step(0);
+        assertEquals(300 - PlayerModel.HEIGHT, player.getY(), DELTA);
+    }
+
+    @Test
+    public void walkingIntoWallTest() {
+        System.out.println("CollisionTest: walking into a wall");
+        world.addStaticBody(0, 300, 1000, 60, PhysicsWorld.SOLID); // floor
+        world.addStaticBody(200, 190, 60, 110, PhysicsWorld.SOLID); // wall standing on the floor
+        world.build();
+        placePlayer(200 - PlayerModel.WIDTH - 5, 300 - PlayerModel.HEIGHT, 0);
+
+        // a gap equal to the step is walked in full, ending flush against the wall
+        step(Action.RIGHT.mask());
+        assertEquals(200 - PlayerModel.WIDTH, player.getX(), DELTA);
+
+        // once flush, the wall blocks the player
+        step(Action.RIGHT.mask());
+        assertEquals(200 - PlayerModel.WIDTH, player.getX(), DELTA);
+
+        // the floor only touches the player vertically, so it never blocks walking
+        step(Action.LEFT.mask());
+        assertEquals(200 - PlayerModel.WIDTH - 5, player.getX(), DELTA);
+        assertEquals(300 - PlayerModel.HEIGHT, player.getY(), DELTA);
+    }
+
+    @Test
+    public void jumpingIntoCeilingTest() {
+        System.out.println("CollisionTest: jumping into a ceiling");
+        world.addStaticBody(0, 100, 600, 60, PhysicsWorld.SOLID);
+        world.build();
+
+        // rising 20 pixels with 10 left: the head stops at the bottom of the ceiling
+        placePlayer(100, 170, -20);
+        step(0);
+        assertEquals(160, player.getY(), DELTA);
+        assertFalse(player.isCanJump());
+    }
+
+    @Test
+    public void gapEqualToStepTest() {
+        System.out.println("CollisionTest: gap equal to the step");
+        world.addStaticBody(0, 300, 600, 60, PhysicsWorld.SOLID);
+        world.build();
+
+        // a box reached at the very end of the move does not stop it: the player ends touching it
+        placePlayer(100, 300 - PlayerModel.HEIGHT - 5, 5);
+        step(0);
+        assertEquals(300 - PlayerModel.HEIGHT, player.getY(), DELTA);
+        assertFalse(player.isCanJump());
+
+        // the contact is reported on the next move, which lands the player
+        step(0);
+        assertEquals(300 - PlayerModel.HEIGHT, player.getY(), DELTA);
+        assertTrue(player.isCanJump());
+    }
+}
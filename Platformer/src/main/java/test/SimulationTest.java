@@ -0,0 +1,44 @@
+package test;
+
+import com.platformer.escape_beyond.input.Action;
+import com.platformer.escape_beyond.model.entity.LevelData;
+import com.platformer.escape_beyond.model.game.GameEvent;
+import com.platformer.escape_beyond.model.game.Simulation;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SimulationTest {
+
+    @Test
+    public void simulationTest() {
+        System.out.println("SimulationTest");
+
+        Simulation simulation = new Simulation(LevelData.getLevel(1));
+
+        // standing still never ends the level before the countdown
+        Simulation.Result idle = simulation.run(new int[0]);
+        assertEquals(GameEvent.TIME_UP, idle.getOutcome());
+        assertEquals(Simulation.TIME_LIMIT_TICKS, idle.getTicks());
+
+        // walking right without jumping falls into the first hole
+        int[] right = new int[Simulation.TIME_LIMIT_TICKS];
+        Arrays.fill(right, Action.RIGHT.mask());
+        assertEquals(GameEvent.FELL_OUT, simulation.run(right).getOutcome());
+
+        // the same script always plays the same way
+        Random random = new Random(1);
+        int[] script = new int[3000];
+        for (int i = 0; i < script.length; i++) {
+            script[i] = Action.RIGHT.mask() | (random.nextInt(5) == 0 ? Action.JUMP.mask() : 0);
+        }
+        Simulation.Result first = simulation.run(script);
+        Simulation.Result second = simulation.run(script);
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getCollectedSupplies(), second.getCollectedSupplies());
+    }
+}